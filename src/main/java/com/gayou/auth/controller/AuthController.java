@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.WebRequest;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -171,8 +172,14 @@ public class AuthController {
      * @return 사용자의 프로필 정보가 담긴 ResponseEntity
      */
     @GetMapping("/profile")
-    public ResponseEntity<?> getProfile(@AuthenticationPrincipal String email) {
+    public ResponseEntity<?> getProfile(@AuthenticationPrincipal String email, WebRequest request) {
         try {
+            // 프로필이 바뀌지 않았으면 304 (Not Modified)
+            String etag = userService.getProfileETag(email);
+            if (etag != null && request.checkNotModified(etag)) {
+                return null;
+            }
+
             UserDto userDto = userService.getUserProfile(email);
             return ResponseEntity.ok(userDto);
         } catch (Exception e) {
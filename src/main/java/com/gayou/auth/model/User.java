@@ -1,5 +1,7 @@
 package com.gayou.auth.model;
 
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.format.annotation.DateTimeFormat;
 import jakarta.persistence.*;
 import lombok.*;
@@ -9,6 +11,7 @@ import java.util.Date;
 @Entity
 @Getter
 @Setter
+@EntityListeners(AuditingEntityListener.class)
 @Table(name = "user")
 public class User {
 
@@ -48,4 +51,7 @@ public class User {
 
     @Enumerated(EnumType.STRING) // Enum 값을 문자열로 저장
     private AccountStatus status; // 계정 상태 필드 (ACTIVE, SUSPENDED 등)
+
+    @LastModifiedDate
+    private Date updateDate; // 마지막 수정 시간 (프로필 조회 ETag 기준값)
 }
@@ -1,10 +1,13 @@
 package com.gayou.auth.repository;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.gayou.auth.model.AccountStatus;
 import com.gayou.auth.model.User;
@@ -15,4 +18,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     Optional<User> findById(Long id);
+
+    // 프로필 ETag용 - 프로필 사진(LONGTEXT)을 읽지 않고 수정 시각만 조회
+    @Query("SELECT u.updateDate FROM User u WHERE u.email = :email")
+    Optional<Date> findUpdateDateByEmail(@Param("email") String email);
+
+    // 이메일로 사용자 ID만 조회 (UserIdCache 적재용)
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    // 경로 카드 응답용 - 한 페이지에 나오는 작성자들의 (사용자 ID, 프로필 사진)을 한 번에 조회
+    @Query("SELECT u.id, u.profilePicture FROM User u WHERE u.id IN :ids")
+    List<Object[]> findProfilePicturesByIdIn(@Param("ids") Collection<Long> ids);
 }
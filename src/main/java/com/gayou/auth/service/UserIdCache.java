@@ -0,0 +1,44 @@
+package com.gayou.auth.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.gayou.auth.exception.UserNotFoundException;
+import com.gayou.auth.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 인증된 사용자 이메일 -> 사용자 ID 캐시
+ *
+ * 좋아요/북마크처럼 사용자 ID만 필요한 요청에서 프로필 사진(LONGTEXT)을 포함한 User 엔티티를 매번 읽지 않도록 합니다.
+ * 이메일은 가입 후 바뀌지 않으므로 무효화하지 않습니다.
+ */
+@Component
+public class UserIdCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Long> userIds;
+
+    public UserIdCache(UserRepository userRepository, @Value("${user.id-cache.max-size}") long maxSize) {
+        this.userRepository = userRepository;
+        this.userIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 이메일에 해당하는 사용자 ID를 반환하는 메서드
+     *
+     * @param email - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @return 사용자 ID
+     * @throws UserNotFoundException - 사용자를 찾을 수 없는 경우 예외 발생
+     */
+    public Long getId(String email) {
+        Long userId = userIds.get(email, key -> userRepository.findIdByEmail(key).orElse(null));
+        if (userId == null) {
+            throw new UserNotFoundException("User not found");
+        }
+        return userId;
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.gayou.auth.dto.LoginResponse;
+import com.gayou.route.repository.RouteCardRepository;
 import com.gayou.settings.provider.JwtProvider;
 
 import java.util.Date;
@@ -29,11 +30,14 @@ public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
+    private final RouteCardRepository routeCardRepository;
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(); // 비밀번호 인코더
 
-    public UserService(UserRepository userRepository, JwtProvider jwtProvider) {
+    public UserService(UserRepository userRepository, JwtProvider jwtProvider,
+            RouteCardRepository routeCardRepository) {
         this.userRepository = userRepository;
         this.jwtProvider = jwtProvider;
+        this.routeCardRepository = routeCardRepository;
     }
 
     // 랜덤 비밀번호 생성을 위한 문자 배열 (숫자, 대문자, 소문자, 특수문자 포함)
@@ -202,6 +206,18 @@ public class UserService implements UserDetailsService {
         return userDto;
     }
 
+    /**
+     * 사용자 프로필의 ETag를 수정 시각으로 계산하는 메서드
+     *
+     * @param email - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @return 약한 ETag 값 (수정 시각이 아직 기록되지 않은 사용자는 null)
+     */
+    public String getProfileETag(String email) {
+        return userRepository.findUpdateDateByEmail(email)
+                .map(updateDate -> "W/\"profile-" + updateDate.getTime() + "\"")
+                .orElse(null);
+    }
+
     /**
      * 사용자의 프로필을 업데이트하는 메서드
      *
@@ -229,6 +245,9 @@ public class UserService implements UserDetailsService {
         existingUser.setDescription(userDto.getDescription());
 
         userRepository.save(existingUser);
+
+        // 경로 카드에 복사해 둔 작성자 이름도 함께 갱신 (프로필 사진은 카드에 복사하지 않음)
+        routeCardRepository.updateAuthorName(existingUser.getId(), existingUser.getName());
     }
 
     /**
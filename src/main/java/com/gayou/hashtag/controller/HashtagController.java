@@ -0,0 +1,57 @@
+package com.gayou.hashtag.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.gayou.hashtag.dto.HashtagSuggestionDto;
+import com.gayou.hashtag.dto.TrendingHashtagDto;
+import com.gayou.hashtag.service.HashtagSuggestIndex;
+import com.gayou.hashtag.service.TrendingHashtagCounter;
+
+@RestController
+@RequestMapping("/hashtag")
+public class HashtagController {
+
+    @Autowired
+    private HashtagSuggestIndex hashtagSuggestIndex;
+
+    @Autowired
+    private TrendingHashtagCounter trendingHashtagCounter;
+
+    /**
+     * 입력 중인 해시태그의 자동완성 목록을 반환하는 메서드
+     *
+     * @param query - 입력 중인 해시태그 접두사 (초성 입력 가능, 예: "ㅅㅇ")
+     * @param size  - 최대 추천 수 (기본 10, 최대 10)
+     * @return ResponseEntity<List<HashtagSuggestionDto>> - 사용 수 내림차순 해시태그 목록
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<HashtagSuggestionDto>> suggest(@RequestParam("q") String query,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        return ResponseEntity.ok(hashtagSuggestIndex.suggest(query, size));
+    }
+
+    /**
+     * 최근 사용량이 급상승한 해시태그 목록을 반환하는 메서드
+     *
+     * @param window - 조회 구간 (기본 24h, 설정된 1h/24h/7d 중 하나)
+     * @param size   - 최대 개수 (기본 10, 최대 50)
+     * @return ResponseEntity<?> - 급상승 점수 내림차순 해시태그 목록
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<?> trending(@RequestParam(value = "window", defaultValue = "24h") String window,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        try {
+            List<TrendingHashtagDto> trending = trendingHashtagCounter.trending(window, Math.max(1, Math.min(size, 50)));
+            return ResponseEntity.ok(trending);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("지원하지 않는 조회 구간입니다.");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.gayou.hashtag.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class HashtagSuggestionDto {
+    private String tagName;
+    // 해시태그가 붙은 경로 수
+    private long count;
+}
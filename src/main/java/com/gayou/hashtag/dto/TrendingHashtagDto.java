@@ -0,0 +1,14 @@
+package com.gayou.hashtag.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TrendingHashtagDto {
+    private String tagName;
+    // 조회 구간 동안의 가중 사용 수 (경로 공개, 좋아요, 북마크)
+    private long count;
+    // 급상승 정도 - 가장 긴 구간의 평소 사용량 대비 배율 (가장 긴 구간 조회 시에는 사용 수와 같음)
+    private double score;
+}
@@ -5,25 +5,31 @@ import java.util.List;
 import com.gayou.route.model.RouteHashtags;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
 @Getter
 @Setter
-@Table(name = "hashtag")
+// 같은 해시태그가 동시에 저장되어도 한 행만 생기도록 이름에 유니크 제약 (HashtagResolver 참고)
+@Table(name = "hashtag", uniqueConstraints = @UniqueConstraint(name = "uk_hashtag_tag_name", columnNames = "tag_name"))
 public class Hashtag {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 유니크 제약과 IN 조회가 HashtagResolver.normalize와 같은 기준으로 비교하도록 바이너리 콜레이션 고정
+    // (기본 utf8mb4_0900_ai_ci는 악센트/전각을 무시해 "café"와 "cafe"를 같은 값으로 봄)
+    @Column(name = "tag_name", columnDefinition = "varchar(255) COLLATE utf8mb4_bin")
     private String tagName;
 
     @OneToMany(mappedBy = "hashtag", cascade = CascadeType.ALL)
@@ -1,5 +1,6 @@
 package com.gayou.hashtag.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,8 +11,11 @@ import com.gayou.hashtag.model.Hashtag;
 
 public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
 
-    @Query("SELECT h.tagName FROM Hashtag h WHERE h.tagName IN :tagNames")
-    List<String> findExistingTags(@Param("tagNames") List<String> tagNames);
+    // 자동완성용 - 해시태그별 사용 경로 수 (tagName, count)
+    @Query("SELECT h.tagName, COUNT(rh.id) FROM Hashtag h LEFT JOIN h.routeHashtags rh GROUP BY h.id, h.tagName")
+    List<Object[]> findAllTagUsage();
 
-    List<Hashtag> findByTagNameIn(List<String> tagNames);
+    @Query("SELECT h.tagName, COUNT(rh.id) FROM Hashtag h LEFT JOIN h.routeHashtags rh "
+            + "WHERE h.tagName IN :tagNames GROUP BY h.id, h.tagName")
+    List<Object[]> findTagUsageByTagNameIn(@Param("tagNames") Collection<String> tagNames);
 }
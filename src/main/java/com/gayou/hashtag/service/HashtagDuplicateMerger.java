@@ -0,0 +1,132 @@
+package com.gayou.hashtag.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 정규화한 이름이 같은 해시태그를 한 행으로 합치고 hashtag.tag_name 유니크 제약을 추가하는 시작 단계
+ *
+ * 유니크 제약(uk_hashtag_tag_name)은 ddl-auto=update로 추가되지만, 기존 DB에 중복 이름이 있으면 추가에 실패합니다.
+ * 이 경우 ID가 가장 작은 해시태그만 남기고 경로 연결(route_hashtags)을 그 해시태그로 옮긴 뒤, 나머지를 삭제하고 제약을 추가합니다.
+ * 이름이 바뀐 경로의 카드는 삭제해 두어 RouteCardService.backfillMissingCards가 다시 만들도록 합니다.
+ * 합치기 전에 tag_name을 바이너리 콜레이션(utf8mb4_bin)으로 바꿔, 기본 콜레이션에서는 같은 값으로 보이는
+ * 이름(악센트, 전각 차이)이 남아도 제약 추가가 실패하지 않도록 합니다 (Hashtag.tagName 참고).
+ * 중복이 없고 콜레이션과 제약이 이미 맞으면 information_schema 조회와 해시태그 이름을 한 번 읽는 것 외에는 아무것도 하지 않습니다.
+ */
+@Component
+public class HashtagDuplicateMerger {
+
+    private static final Logger log = LoggerFactory.getLogger(HashtagDuplicateMerger.class);
+
+    private static final String UNIQUE_KEY = "uk_hashtag_tag_name";
+    private static final String COLLATION = "utf8mb4_bin";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public HashtagDuplicateMerger(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 경로 카드 백필(@Order(1))과 해시태그 색인 재구성보다 먼저 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void mergeDuplicates() {
+        try {
+            useBinaryCollation();
+            Integer merged = transactionTemplate.execute(status -> merge());
+            if (merged != null && merged > 0) {
+                log.info("Merged {} duplicate hashtags", merged);
+            }
+            addUniqueKeyIfMissing();
+        } catch (RuntimeException e) {
+            log.error("Hashtag duplicate merge failed", e);
+        }
+    }
+
+    // 정규화한 이름별로 묶어 ID가 가장 작은 행으로 합침 - 삭제한 해시태그 수 반환
+    private int merge() {
+        Map<String, List<Long>> idsByName = new LinkedHashMap<>();
+        Map<Long, String> storedNames = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT id, tag_name FROM hashtag ORDER BY id", resultSet -> {
+            long id = resultSet.getLong("id");
+            String tagName = resultSet.getString("tag_name");
+            storedNames.put(id, tagName);
+            idsByName.computeIfAbsent(HashtagResolver.normalize(tagName), name -> new ArrayList<>()).add(id);
+        });
+
+        int removed = 0;
+        for (Map.Entry<String, List<Long>> group : idsByName.entrySet()) {
+            String name = group.getKey();
+            List<Long> ids = group.getValue();
+            Long keepId = ids.get(0);
+            List<Long> duplicateIds = ids.subList(1, ids.size());
+            if (duplicateIds.isEmpty() && name.equals(storedNames.get(keepId))) {
+                continue;
+            }
+
+            // 이 해시태그를 쓰는 경로의 카드는 다시 만들도록 삭제 (직렬화된 해시태그 이름이 바뀜)
+            String allIds = placeholders(ids.size());
+            jdbcTemplate.update("DELETE FROM route_card WHERE route_head_id IN "
+                    + "(SELECT route_head_id FROM route_hashtags WHERE hashtag_id IN (" + allIds + "))", ids.toArray());
+
+            if (!duplicateIds.isEmpty()) {
+                String duplicates = placeholders(duplicateIds.size());
+                List<Object> args = new ArrayList<>();
+                args.add(keepId);
+                args.addAll(duplicateIds);
+                jdbcTemplate.update("UPDATE route_hashtags SET hashtag_id = ? WHERE hashtag_id IN (" + duplicates + ")",
+                        args.toArray());
+                // 한 경로에 같은 해시태그가 두 번 연결되었으면 먼저 연결된 행만 남김
+                jdbcTemplate.update("DELETE FROM route_hashtags WHERE hashtag_id = ? AND id NOT IN (SELECT id FROM "
+                        + "(SELECT MIN(id) AS id FROM route_hashtags WHERE hashtag_id = ? GROUP BY route_head_id) kept)",
+                        keepId, keepId);
+                jdbcTemplate.update("DELETE FROM hashtag WHERE id IN (" + duplicates + ")", duplicateIds.toArray());
+                removed += duplicateIds.size();
+            }
+            if (!name.isEmpty()) {
+                jdbcTemplate.update("UPDATE hashtag SET tag_name = ? WHERE id = ?", name, keepId);
+            }
+        }
+        return removed;
+    }
+
+    private void useBinaryCollation() {
+        List<String> collations = jdbcTemplate.queryForList("SELECT collation_name FROM information_schema.columns "
+                + "WHERE table_schema = DATABASE() AND table_name = 'hashtag' AND column_name = 'tag_name'",
+                String.class);
+        if (!collations.isEmpty() && !COLLATION.equals(collations.get(0))) {
+            jdbcTemplate.execute("ALTER TABLE hashtag MODIFY tag_name varchar(255) COLLATE " + COLLATION);
+            log.info("Changed hashtag.tag_name collation from {} to {}", collations.get(0), COLLATION);
+        }
+    }
+
+    private void addUniqueKeyIfMissing() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND table_name = 'hashtag' AND index_name = ?", Integer.class,
+                UNIQUE_KEY);
+        if (count != null && count == 0) {
+            jdbcTemplate.execute("ALTER TABLE hashtag ADD CONSTRAINT " + UNIQUE_KEY + " UNIQUE (tag_name)");
+            log.info("Added unique key {} to hashtag", UNIQUE_KEY);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
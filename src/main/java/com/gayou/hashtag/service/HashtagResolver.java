@@ -0,0 +1,128 @@
+package com.gayou.hashtag.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 해시태그 이름을 ID로 변환하며, 없는 해시태그는 만드는 컴포넌트
+ *
+ * 이름은 정규화(NFC, 앞뒤 공백과 '#' 제거, 소문자)한 값을 기준으로 하며, 이름 -> ID를 메모리에 캐시합니다.
+ * 캐시에 없는 이름만 hashtag.tag_name 유니크 제약을 이용한 INSERT IGNORE 한 번과 IN 조회 한 번으로 처리하므로,
+ * 같은 새 해시태그를 동시에 저장해도 중복 행이 생기지 않습니다.
+ * 해시태그 생성은 별도 트랜잭션에서 커밋되므로, 호출 측이 롤백되어도 캐시된 ID는 항상 DB에 존재합니다.
+ */
+@Component
+public class HashtagResolver {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTransaction;
+    private final Cache<String, Long> tagIds;
+
+    public HashtagResolver(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            @Value("${hashtag.id-cache.max-size}") long maxSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.tagIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 해시태그 이름을 정규화하는 메서드
+     *
+     * @param tagName - 사용자가 입력한 해시태그
+     * @return 정규화된 이름 (null이면 빈 문자열)
+     */
+    public static String normalize(String tagName) {
+        if (tagName == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(tagName, Normalizer.Form.NFC).strip();
+        while (normalized.startsWith("#")) {
+            normalized = normalized.substring(1).strip();
+        }
+        return normalized.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 해시태그 목록을 정규화하고 빈 값과 중복을 제거하는 메서드 (입력 순서 유지)
+     *
+     * @param tagNames - 사용자가 입력한 해시태그 목록
+     * @return 정규화된 해시태그 이름 목록
+     */
+    public static List<String> normalizeAll(Collection<String> tagNames) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String tagName : tagNames) {
+            String name = normalize(tagName);
+            if (!name.isEmpty()) {
+                normalized.add(name);
+            }
+        }
+        return new ArrayList<>(normalized);
+    }
+
+    /**
+     * 해시태그 이름 목록을 ID로 변환하는 메서드 (없는 해시태그는 생성)
+     *
+     * @param tagNames - 정규화된 해시태그 이름 목록 (normalizeAll 결과)
+     * @return 입력 순서대로 정렬된 이름 -> ID
+     */
+    public Map<String, Long> resolveIds(List<String> tagNames) {
+        Map<String, Long> resolved = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String tagName : tagNames) {
+            Long id = tagIds.getIfPresent(tagName);
+            if (id == null) {
+                missing.add(tagName);
+            }
+            resolved.put(tagName, id);
+        }
+
+        if (!missing.isEmpty()) {
+            Map<String, Long> created = requiresNewTransaction.execute(status -> insertIfAbsent(missing));
+            for (String tagName : missing) {
+                Long id = created.get(tagName);
+                if (id == null) {
+                    throw new IllegalStateException("Failed to resolve hashtag: " + tagName);
+                }
+                tagIds.put(tagName, id);
+                resolved.put(tagName, id);
+            }
+        }
+        return resolved;
+    }
+
+    // 없는 해시태그만 삽입한 뒤 모든 이름의 ID를 조회 (유니크 제약에 걸린 행은 무시됨)
+    private Map<String, Long> insertIfAbsent(List<String> tagNames) {
+        String rows = String.join(", ", Collections.nCopies(tagNames.size(), "(?)"));
+        jdbcTemplate.update("INSERT IGNORE INTO hashtag (tag_name) VALUES " + rows, tagNames.toArray());
+
+        String placeholders = String.join(", ", Collections.nCopies(tagNames.size(), "?"));
+        Map<String, Long> ids = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT id, tag_name FROM hashtag WHERE tag_name IN (" + placeholders + ")",
+                resultSet -> {
+                    // tag_name은 바이너리 콜레이션이므로 DB가 돌려준 이름이 요청한 이름과 정확히 같음
+                    ids.put(resultSet.getString("tag_name"), resultSet.getLong("id"));
+                }, tagNames.toArray());
+        return ids;
+    }
+}
@@ -0,0 +1,252 @@
+package com.gayou.hashtag.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.gayou.hashtag.dto.HashtagSuggestionDto;
+import com.gayou.hashtag.repository.HashtagRepository;
+
+/**
+ * 해시태그 자동완성용 메모리 접두사 트라이
+ *
+ * 해시태그 이름과 초성(예: "서울맛집" -> "ㅅㅇㅁㅈ") 두 개의 트라이를 두고, 각 노드에 그 아래 해시태그 중
+ * 사용 수 상위 TOP_K개를 미리 정렬해 둡니다. 조회는 접두사 길이만큼 노드를 따라가 목록을 복사하는 것이 전부라
+ * DB에 접근하지 않습니다. 사용 수가 바뀐 해시태그는 해당 경로의 노드만 아래에서부터 다시 계산합니다.
+ */
+@Component
+public class HashtagSuggestIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(HashtagSuggestIndex.class);
+
+    // 노드마다 보관하는 상위 해시태그 수 (한 번에 돌려줄 수 있는 최대 추천 수)
+    public static final int TOP_K = 10;
+
+    // 한글 음절의 초성 (유니코드 음절 순서)
+    private static final char[] CHOSEONG = { 'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ',
+            'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ' };
+
+    private static final Comparator<HashtagSuggestionDto> BY_USAGE = Comparator
+            .comparingLong(HashtagSuggestionDto::getCount).reversed()
+            .thenComparing(HashtagSuggestionDto::getTagName);
+
+    private final HashtagRepository hashtagRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Node byName = new Node();
+    private Node byChoseong = new Node();
+    private Map<String, HashtagSuggestionDto> suggestions = new HashMap<>();
+
+    public HashtagSuggestIndex(HashtagRepository hashtagRepository) {
+        this.hashtagRepository = hashtagRepository;
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        // 이 노드에서 끝나는 해시태그 (초성 트라이에서는 여러 개일 수 있음)
+        private final List<HashtagSuggestionDto> terminals = new ArrayList<>();
+        // 이 노드 아래 전체에서 사용 수 상위 TOP_K개
+        private List<HashtagSuggestionDto> top = Collections.emptyList();
+    }
+
+    /**
+     * 입력 중인 접두사로 시작하는 해시태그를 사용 수 순으로 가져오는 메서드
+     *
+     * 완성된 음절이 없으면(예: "ㅅㅇ") 초성 트라이의 노드 하나에서 바로 읽습니다.
+     * 완성된 음절과 초성이 섞여 있으면(예: "서ㅇ") 이름 트라이를 따라가되 초성 자리에서는 그 초성으로 시작하는 음절 자식을 모두 따라가고,
+     * 도착한 노드들의 상위 목록을 합쳐 순위를 매깁니다. 각 노드의 하위 트리는 서로 겹치지 않으므로 결과가 잘리지 않습니다.
+     *
+     * @param prefix - 입력 중인 해시태그 (HashtagResolver.normalize로 정규화 - 대소문자, 앞의 '#' 무시)
+     * @param limit  - 최대 추천 수 (1 ~ TOP_K 범위로 보정)
+     * @return 사용 수 내림차순 해시태그 목록
+     */
+    public List<HashtagSuggestionDto> suggest(String prefix, int limit) {
+        String key = HashtagResolver.normalize(prefix);
+        int size = Math.max(1, Math.min(limit, TOP_K));
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        boolean hasSyllable = key.chars().anyMatch(c -> isHangulSyllable((char) c));
+
+        lock.readLock().lock();
+        try {
+            List<HashtagSuggestionDto> candidates;
+            if (!hasSyllable) {
+                Node node = find(byChoseong, key);
+                candidates = node == null ? Collections.emptyList() : node.top;
+            } else {
+                candidates = new ArrayList<>();
+                for (Node node : findMatching(byName, key)) {
+                    candidates.addAll(node.top);
+                }
+                candidates.sort(BY_USAGE);
+            }
+
+            List<HashtagSuggestionDto> result = new ArrayList<>();
+            for (int i = 0; i < candidates.size() && i < size; i++) {
+                HashtagSuggestionDto suggestion = candidates.get(i);
+                result.add(new HashtagSuggestionDto(suggestion.getTagName(), suggestion.getCount()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 해시태그들의 사용 수를 DB에서 다시 읽어 트라이에 반영하는 메서드
+     *
+     * 새로 저장된 해시태그는 추가되고, 경로 수정/삭제로 사용 수가 바뀐 해시태그는 순위가 갱신됩니다.
+     *
+     * @param tagNames - 사용 수가 바뀌었을 수 있는 해시태그 이름
+     */
+    public void refresh(Collection<String> tagNames) {
+        if (tagNames.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Object[]> rows = hashtagRepository.findTagUsageByTagNameIn(tagNames);
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : rows) {
+                    put(new HashtagSuggestionDto((String) row[0], (Long) row[1]));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh hashtag suggestions {}", tagNames, e);
+        }
+    }
+
+    /**
+     * 모든 해시태그와 사용 수로 트라이를 새로 만드는 메서드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            List<Object[]> rows = hashtagRepository.findAllTagUsage();
+            lock.writeLock().lock();
+            try {
+                byName = new Node();
+                byChoseong = new Node();
+                suggestions = new HashMap<>();
+                for (Object[] row : rows) {
+                    put(new HashtagSuggestionDto((String) row[0], (Long) row[1]));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (RuntimeException e) {
+            log.error("Hashtag suggest index rebuild failed", e);
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void put(HashtagSuggestionDto suggestion) {
+        HashtagSuggestionDto previous = suggestions.put(suggestion.getTagName(), suggestion);
+        String key = HashtagResolver.normalize(suggestion.getTagName());
+        if (key.isEmpty()) {
+            return;
+        }
+        update(byName, key, previous, suggestion);
+        update(byChoseong, toChoseong(key), previous, suggestion);
+    }
+
+    // 해시태그가 끝나는 노드의 항목을 바꾸고, 경로상의 노드를 아래에서부터 다시 계산
+    private void update(Node root, String key, HashtagSuggestionDto previous, HashtagSuggestionDto suggestion) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            path.add(node);
+        }
+
+        if (previous != null) {
+            node.terminals.remove(previous);
+        }
+        node.terminals.add(suggestion);
+
+        for (int i = path.size() - 1; i >= 0; i--) {
+            recomputeTop(path.get(i));
+        }
+    }
+
+    private void recomputeTop(Node node) {
+        List<HashtagSuggestionDto> candidates = new ArrayList<>(node.terminals);
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.top);
+        }
+        candidates.sort(BY_USAGE);
+        node.top = candidates.size() > TOP_K ? new ArrayList<>(candidates.subList(0, TOP_K)) : candidates;
+    }
+
+    private Node find(Node root, String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    // 패턴과 일치하는 이름 트라이 노드들 (패턴의 초성은 그 초성으로 시작하는 음절 또는 같은 자모와, 나머지 글자는 그대로 비교)
+    private List<Node> findMatching(Node root, String pattern) {
+        List<Node> frontier = List.of(root);
+        for (int i = 0; i < pattern.length() && !frontier.isEmpty(); i++) {
+            char expected = pattern.charAt(i);
+            List<Node> next = new ArrayList<>();
+            for (Node node : frontier) {
+                if (isChoseong(expected)) {
+                    for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                        if (choseongOf(child.getKey()) == expected) {
+                            next.add(child.getValue());
+                        }
+                    }
+                } else {
+                    Node child = node.children.get(expected);
+                    if (child != null) {
+                        next.add(child);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return frontier;
+    }
+
+    // 한글 음절은 초성으로, 그 외 문자는 그대로 둔 문자열
+    private static String toChoseong(String text) {
+        StringBuilder choseong = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            choseong.append(choseongOf(text.charAt(i)));
+        }
+        return choseong.toString();
+    }
+
+    private static char choseongOf(char c) {
+        return isHangulSyllable(c) ? CHOSEONG[(c - '가') / (21 * 28)] : c;
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean isChoseong(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+}
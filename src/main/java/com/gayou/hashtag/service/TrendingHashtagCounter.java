@@ -0,0 +1,224 @@
+package com.gayou.hashtag.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+
+import com.gayou.hashtag.dto.TrendingHashtagDto;
+
+/**
+ * 급상승 해시태그 집계용 시간 구간 카운터
+ *
+ * 해시태그마다 bucketMinutes 단위 칸으로 나뉜 원형 배열(AtomicLongArray)을 두고, 경로 공개/좋아요/북마크가
+ * 일어날 때 현재 칸을 잠금 없이 증가시킵니다. 가장 긴 구간을 덮을 만큼의 칸만 두고 오래된 칸은 재사용하므로
+ * 해시태그당 메모리가 고정되며, 추적하는 해시태그 수도 maxTags로 제한하여 전체 메모리를 제한합니다.
+ * 추적 수가 가득 차면 Space-Saving 방식으로 가장 긴 구간 사용 수가 가장 적은 해시태그를 내보내고,
+ * 새 해시태그는 내보낸 사용 수를 이어받아 시작합니다. 그래서 막 늘기 시작한 해시태그가 바로 다음 새 해시태그에 밀려나지 않으며,
+ * 이어받은 값(오차)은 급상승 점수를 계산할 때 빼서 실제로 기록된 사용 수만 반영합니다.
+ * 내보낼 해시태그는 사용 수를 키로 하는 최소 힙에서 찾으며, 키는 내보낼 때만 다시 계산합니다.
+ * 점수 = (구간 사용 수 + 1) / (가장 긴 구간의 나머지 기간으로 추정한 같은 길이의 평소 사용 수 + 1)
+ */
+@Component
+public class TrendingHashtagCounter {
+
+    // 이벤트별 가중치 - 새 경로에 붙은 해시태그를 좋아요/북마크보다 크게 반영
+    public static final int PUBLISH_WEIGHT = 3;
+    public static final int LIKE_WEIGHT = 1;
+    public static final int BOOKMARK_WEIGHT = 1;
+
+    // 급상승 목록에 오르기 위한 구간 내 최소 사용 수 (한두 번의 사용으로 배율이 튀는 것을 막음)
+    private static final long MIN_TRENDING_COUNT = 3;
+
+    private static final Comparator<TrendingHashtagDto> BY_SCORE = Comparator
+            .comparingDouble(TrendingHashtagDto::getScore).reversed()
+            .thenComparing(Comparator.comparingLong(TrendingHashtagDto::getCount).reversed())
+            .thenComparing(TrendingHashtagDto::getTagName);
+
+    private final long bucketMillis;
+    private final List<Duration> windows;
+    private final long longestWindowBuckets;
+    private final int bucketCount;
+    private final int maxTags;
+    private final Map<String, TagCounter> counters = new ConcurrentHashMap<>();
+    // 내보낼 해시태그 후보 - heapKey(가장 긴 구간 사용 수, 마지막으로 계산한 값) 오름차순 (counters 잠금 안에서만 사용)
+    private final PriorityQueue<TagCounter> coldest = new PriorityQueue<>(
+            Comparator.comparingLong(counter -> counter.heapKey));
+
+    public TrendingHashtagCounter(@Value("${hashtag.trending.bucket-minutes}") long bucketMinutes,
+            @Value("${hashtag.trending.windows}") Duration[] windows,
+            @Value("${hashtag.trending.max-tags}") int maxTags) {
+        this.bucketMillis = Duration.ofMinutes(bucketMinutes).toMillis();
+        this.windows = Arrays.stream(windows).sorted().toList();
+        this.longestWindowBuckets = toBuckets(this.windows.get(this.windows.size() - 1));
+        // 현재 진행 중인 칸까지 포함
+        this.bucketCount = (int) longestWindowBuckets + 1;
+        this.maxTags = maxTags;
+    }
+
+    // 해시태그 하나의 원형 카운터 (slotBuckets[i]는 counts[i]가 몇 번째 칸의 값인지)
+    private static class TagCounter {
+        private final String tagName;
+        private final AtomicLongArray counts;
+        private final AtomicLongArray slotBuckets;
+        // 추적을 시작할 때 이어받은 사용 수와 그 값을 더한 칸 (생성 시에만 설정)
+        private long inherited;
+        private long inheritedBucket = -1;
+        // 힙 정렬 키 (counters 잠금 안에서, 힙에 없을 때만 변경)
+        private long heapKey;
+
+        private TagCounter(String tagName, int bucketCount) {
+            this.tagName = tagName;
+            this.counts = new AtomicLongArray(bucketCount);
+            this.slotBuckets = new AtomicLongArray(bucketCount);
+        }
+
+        private void inherit(long bucket, long count) {
+            add(bucket, count);
+            inherited = count;
+            inheritedBucket = bucket;
+            heapKey = count;
+        }
+
+        private void add(long bucket, long amount) {
+            int slot = (int) (bucket % counts.length());
+            long current = slotBuckets.get(slot);
+            // 오래된 칸이면 먼저 선점한 스레드 하나만 비움 (경합 중인 증가분 일부는 유실될 수 있음)
+            if (current < bucket && slotBuckets.compareAndSet(slot, current, bucket)) {
+                counts.set(slot, 0);
+            }
+            if (slotBuckets.get(slot) == bucket) {
+                counts.addAndGet(slot, amount);
+            }
+        }
+
+        // [fromBucket, toBucket] 칸의 합계
+        private long sum(long fromBucket, long toBucket) {
+            long total = 0;
+            for (int slot = 0; slot < counts.length(); slot++) {
+                long bucket = slotBuckets.get(slot);
+                if (bucket >= fromBucket && bucket <= toBucket) {
+                    total += counts.get(slot);
+                }
+            }
+            return total;
+        }
+
+        // [fromBucket, toBucket] 칸에 실제로 기록된 사용 수 (이어받은 값 제외)
+        private long recordedSum(long fromBucket, long toBucket) {
+            long total = sum(fromBucket, toBucket);
+            if (inheritedBucket >= fromBucket && inheritedBucket <= toBucket) {
+                total -= inherited;
+            }
+            return Math.max(0, total);
+        }
+    }
+
+    /**
+     * 해시태그 사용 이벤트를 현재 시간 칸에 기록하는 메서드
+     *
+     * @param tagNames - 이벤트가 일어난 경로의 해시태그 이름
+     * @param weight   - 이벤트 가중치 (PUBLISH_WEIGHT, LIKE_WEIGHT, BOOKMARK_WEIGHT)
+     */
+    public void record(Collection<String> tagNames, int weight) {
+        long bucket = currentBucket();
+        for (String tagName : tagNames) {
+            TagCounter counter = counters.get(tagName);
+            if (counter == null) {
+                counter = track(tagName, bucket);
+            }
+            counter.add(bucket, weight);
+        }
+    }
+
+    /**
+     * 구간 내 급상승 해시태그를 점수 순으로 가져오는 메서드
+     *
+     * @param window - 조회 구간 (설정된 구간 중 하나, 예: "1h", "24h", "7d")
+     * @param limit  - 최대 개수
+     * @return 점수 내림차순 해시태그 목록
+     * @throws IllegalArgumentException - 설정되지 않은 구간인 경우
+     */
+    public List<TrendingHashtagDto> trending(String window, int limit) {
+        Duration duration = DurationStyle.detectAndParse(window);
+        if (!windows.contains(duration)) {
+            throw new IllegalArgumentException("Unsupported trending window: " + window);
+        }
+
+        long bucket = currentBucket();
+        long windowBuckets = toBuckets(duration);
+        long windowStart = bucket - windowBuckets + 1;
+        long baselineStart = bucket - longestWindowBuckets + 1;
+        long baselineBuckets = longestWindowBuckets - windowBuckets;
+
+        List<TrendingHashtagDto> ranked = new ArrayList<>();
+        for (Map.Entry<String, TagCounter> entry : counters.entrySet()) {
+            long count = entry.getValue().recordedSum(windowStart, bucket);
+            if (count < MIN_TRENDING_COUNT) {
+                continue;
+            }
+
+            double score = count;
+            if (baselineBuckets > 0) {
+                double expected = (double) entry.getValue().recordedSum(baselineStart, windowStart - 1) * windowBuckets
+                        / baselineBuckets;
+                score = (count + 1) / (expected + 1);
+            }
+            ranked.add(new TrendingHashtagDto(entry.getKey(), count, score));
+        }
+        ranked.sort(BY_SCORE);
+        return ranked.size() > limit ? ranked.subList(0, limit) : ranked;
+    }
+
+    // 새 해시태그 추적 시작 (가득 차면 가장 적게 쓰인 해시태그를 내보내고 그 사용 수를 이어받음)
+    private TagCounter track(String tagName, long bucket) {
+        synchronized (counters) {
+            TagCounter counter = counters.get(tagName);
+            if (counter != null) {
+                return counter;
+            }
+
+            counter = new TagCounter(tagName, bucketCount);
+            if (counters.size() >= maxTags && !coldest.isEmpty()) {
+                counter.inherit(bucket, evictColdest(bucket));
+            }
+            counters.put(tagName, counter);
+            coldest.add(counter);
+            return counter;
+        }
+    }
+
+    // 가장 긴 구간 사용 수가 가장 적은 해시태그를 내보내고 그 사용 수를 반환 (counters 잠금 안에서 호출)
+    private long evictColdest(long bucket) {
+        long from = bucket - longestWindowBuckets + 1;
+        TagCounter candidate = coldest.poll();
+        long count = candidate.sum(from, bucket);
+        // 힙 키는 마지막으로 계산한 값이므로, 그 뒤로 늘어난 후보는 키를 고쳐 다시 넣고 다음 후보를 확인
+        for (int i = 0; i < maxTags && !coldest.isEmpty() && count > coldest.peek().heapKey; i++) {
+            candidate.heapKey = count;
+            coldest.add(candidate);
+            candidate = coldest.poll();
+            count = candidate.sum(from, bucket);
+        }
+        counters.remove(candidate.tagName);
+        return count;
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / bucketMillis;
+    }
+
+    private long toBuckets(Duration window) {
+        return Math.max(1, window.toMillis() / bucketMillis);
+    }
+}
@@ -0,0 +1,90 @@
+package com.gayou.places.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.gayou.places.exception.PlacesWithoutCoordinatesException;
+import com.gayou.places.service.PlaceDistanceService;
+import com.gayou.places.service.PlaceSpatialIndex;
+
+@RestController
+@RequestMapping("/places")
+public class PlacesController {
+
+    @Autowired
+    private PlaceDistanceService placeDistanceService;
+
+    @Autowired
+    private PlaceSpatialIndex placeSpatialIndex;
+
+    /**
+     * 장소들의 모든 쌍 사이 거리 행렬을 반환하는 메서드
+     *
+     * @param contentids - 장소 contentid 목록 (쉼표로 구분, 최대 200개)
+     * @return ResponseEntity<PlaceDistanceMatrixDto> - 장소 순서와 행 우선 거리 행렬(미터)을 반환
+     */
+    @GetMapping("/distances")
+    public ResponseEntity<?> getDistanceMatrix(@RequestParam("ids") List<Integer> contentids) {
+        try {
+            return ResponseEntity.ok(placeDistanceService.getDistanceMatrix(contentids));
+        } catch (PlacesWithoutCoordinatesException e) {
+            return ResponseEntity.badRequest().body("존재하지 않거나 좌표가 없는 장소가 포함되어 있습니다: " + e.getContentids());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body("장소는 1개 이상 " + placeDistanceService.getMaxPlaces() + "개 이하로 요청해야 합니다.");
+        }
+    }
+
+    /**
+     * 중심 좌표에서 반경 안에 있는 장소를 가까운 순으로 반환하는 메서드
+     *
+     * @param latitude      - 중심 위도 (mapy)
+     * @param longitude     - 중심 경도 (mapx)
+     * @param radius        - 반경 (미터, 기본 1000, 최대 20000)
+     * @param contenttypeid - 관광 타입 (생략하면 전체)
+     * @param cat1          - 대분류 (생략하면 전체)
+     * @param size          - 최대 개수 (기본 20, 최대 200)
+     * @return ResponseEntity<List<PlaceNearbyDto>> - 거리(미터) 오름차순 장소 목록
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<?> findNearby(@RequestParam("lat") double latitude, @RequestParam("lon") double longitude,
+            @RequestParam(value = "radius", defaultValue = "1000") double radius,
+            @RequestParam(value = "contenttypeid", required = false) String contenttypeid,
+            @RequestParam(value = "cat1", required = false) String cat1,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(placeSpatialIndex.findNearby(latitude, longitude,
+                Math.max(0, Math.min(radius, 20000)), contenttypeid, cat1, Math.max(1, Math.min(size, 200))));
+    }
+
+    /**
+     * 위경도 사각형 영역 안의 장소를 반환하는 메서드 (지도 화면 범위 조회용)
+     *
+     * @param minLatitude   - 남쪽 위도
+     * @param minLongitude  - 서쪽 경도
+     * @param maxLatitude   - 북쪽 위도
+     * @param maxLongitude  - 동쪽 경도
+     * @param contenttypeid - 관광 타입 (생략하면 전체)
+     * @param cat1          - 대분류 (생략하면 전체)
+     * @param size          - 최대 개수 (기본 200, 최대 1000)
+     * @return ResponseEntity<List<PlaceNearbyDto>> - 영역 안의 장소 목록
+     */
+    @GetMapping("/within")
+    public ResponseEntity<?> findWithin(@RequestParam("minLat") double minLatitude,
+            @RequestParam("minLon") double minLongitude, @RequestParam("maxLat") double maxLatitude,
+            @RequestParam("maxLon") double maxLongitude,
+            @RequestParam(value = "contenttypeid", required = false) String contenttypeid,
+            @RequestParam(value = "cat1", required = false) String cat1,
+            @RequestParam(value = "size", defaultValue = "200") int size) {
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            return ResponseEntity.badRequest().body("잘못된 검색 영역입니다.");
+        }
+        return ResponseEntity.ok(placeSpatialIndex.findWithin(minLatitude, minLongitude, maxLatitude, maxLongitude,
+                contenttypeid, cat1, Math.max(1, Math.min(size, 1000))));
+    }
+}
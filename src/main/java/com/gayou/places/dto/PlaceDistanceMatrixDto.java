@@ -0,0 +1,14 @@
+package com.gayou.places.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+// 장소 간 거리 행렬
+@Data
+public class PlaceDistanceMatrixDto {
+    // 행/열 순서의 장소 contentid (요청 순서, 중복 제거)
+    private List<Integer> contentids;
+    // contentids.size() x contentids.size() 거리 행렬 (미터, 행 우선, i행 j열 = distances[i * size + j])
+    private int[] distances;
+}
@@ -0,0 +1,17 @@
+package com.gayou.places.dto;
+
+import lombok.Data;
+
+// 주변 장소 검색 결과 항목
+@Data
+public class PlaceNearbyDto {
+    private Integer contentid;
+    private String title;
+    private String contenttypeid;
+    private String cat1;
+    private Double mapx;
+    private Double mapy;
+    private String firstimage2;
+    // 검색 중심까지의 거리 (미터, 영역 검색이면 null)
+    private Long distance;
+}
@@ -0,0 +1,18 @@
+package com.gayou.places.exception;
+
+import java.util.List;
+
+// 카탈로그에 없거나 좌표가 없는 장소가 포함된 경우 (해당 contentid를 모두 담음)
+public class PlacesWithoutCoordinatesException extends IllegalArgumentException {
+
+    private final List<Integer> contentids;
+
+    public PlacesWithoutCoordinatesException(List<Integer> contentids) {
+        super("Places not found or without coordinates: " + contentids);
+        this.contentids = contentids;
+    }
+
+    public List<Integer> getContentids() {
+        return contentids;
+    }
+}
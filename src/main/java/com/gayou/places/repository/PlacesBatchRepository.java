@@ -0,0 +1,18 @@
+package com.gayou.places.repository;
+
+import java.util.List;
+
+import com.gayou.places.model.Places;
+
+/**
+ * 장소를 JDBC 배치로 추가/갱신하는 PlacesRepository 확장
+ */
+public interface PlacesBatchRepository {
+
+    /**
+     * 장소들을 한 번의 배치로 추가하거나 (같은 contentid가 있으면) 갱신하는 메서드
+     *
+     * @param places - 저장할 장소 목록 (영속 상태가 아닌 값 객체, last_updated는 현재 시각으로 설정됨)
+     */
+    void upsertAll(List<Places> places);
+}
@@ -0,0 +1,95 @@
+package com.gayou.places.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.gayou.places.model.Places;
+
+/**
+ * PlacesBatchRepository 구현
+ *
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 INSERT ... ON DUPLICATE KEY UPDATE 한 문장을 JdbcTemplate.batchUpdate로 보냅니다.
+ * rewriteBatchedStatements 옵션으로 여러 행 INSERT 한 문장이 됩니다.
+ * 목록형 덤프처럼 일부 열(overview, tel, addr2 등)이 빠진 행으로 기존 값을 지우지 않도록, 덤프에 값이 있는 열만 덮어씁니다.
+ * 행 별칭(AS new) 문법을 쓰므로 MySQL 8.0.19 이상이 필요합니다.
+ * 카탈로그 변경 확인(장소 수, last_updated 최댓값)에 잡히도록 last_updated를 항상 현재 시각으로 설정합니다.
+ */
+public class PlacesBatchRepositoryImpl implements PlacesBatchRepository {
+
+    private static final String UPSERT_SQL = "INSERT INTO places (contentid, title, addr1, addr2, areacode, booktour, "
+            + "cat1, cat2, cat3, contenttypeid, createdtime, firstimage, firstimage2, mapx, mapy, modifiedtime, tel, "
+            + "overview, last_updated) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP) "
+            + "AS new ON DUPLICATE KEY UPDATE title = COALESCE(new.title, title), addr1 = COALESCE(new.addr1, addr1), "
+            + "addr2 = COALESCE(new.addr2, addr2), areacode = COALESCE(new.areacode, areacode), "
+            + "booktour = COALESCE(new.booktour, booktour), cat1 = COALESCE(new.cat1, cat1), "
+            + "cat2 = COALESCE(new.cat2, cat2), cat3 = COALESCE(new.cat3, cat3), "
+            + "contenttypeid = COALESCE(new.contenttypeid, contenttypeid), "
+            + "createdtime = COALESCE(new.createdtime, createdtime), firstimage = COALESCE(new.firstimage, firstimage), "
+            + "firstimage2 = COALESCE(new.firstimage2, firstimage2), mapx = COALESCE(new.mapx, mapx), "
+            + "mapy = COALESCE(new.mapy, mapy), modifiedtime = COALESCE(new.modifiedtime, modifiedtime), "
+            + "tel = COALESCE(new.tel, tel), overview = COALESCE(new.overview, overview), "
+            + "last_updated = CURRENT_TIMESTAMP";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PlacesBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsertAll(List<Places> places) {
+        if (places.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, places, places.size(), (statement, place) -> {
+            statement.setInt(1, place.getContentid());
+            statement.setString(2, place.getTitle());
+            statement.setString(3, place.getAddr1());
+            statement.setString(4, place.getAddr2());
+            setInteger(statement, 5, place.getAreacode());
+            setDouble(statement, 6, place.getBooktour());
+            statement.setString(7, place.getCat1());
+            statement.setString(8, place.getCat2());
+            statement.setString(9, place.getCat3());
+            statement.setString(10, place.getContenttypeid());
+            setTimestamp(statement, 11, place.getCreatedtime());
+            statement.setString(12, place.getFirstimage());
+            statement.setString(13, place.getFirstimage2());
+            setDouble(statement, 14, place.getMapx());
+            setDouble(statement, 15, place.getMapy());
+            setTimestamp(statement, 16, place.getModifiedtime());
+            statement.setString(17, place.getTel());
+            statement.setString(18, place.getOverview());
+        });
+    }
+
+    private static void setInteger(PreparedStatement statement, int index, Integer value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.INTEGER);
+        } else {
+            statement.setInt(index, value);
+        }
+    }
+
+    private static void setDouble(PreparedStatement statement, int index, Double value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.DOUBLE);
+        } else {
+            statement.setDouble(index, value);
+        }
+    }
+
+    private static void setTimestamp(PreparedStatement statement, int index, Date value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.TIMESTAMP);
+        } else {
+            statement.setTimestamp(index, new Timestamp(value.getTime()));
+        }
+    }
+}
@@ -1,13 +1,29 @@
 package com.gayou.places.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.gayou.places.model.Places;
 
 @Repository
-public interface PlacesRepository extends JpaRepository<Places, Integer> {
+public interface PlacesRepository extends JpaRepository<Places, Integer>, PlacesBatchRepository {
     Optional<Places> findByContentid(Integer contentid);
+
+    // 카탈로그 변경 확인용 (장소 수, last_updated 최댓값)
+    @Query("SELECT COUNT(p), MAX(p.lastUpdated) FROM Places p")
+    List<Object[]> findCountAndLastUpdated();
+
+    // 카탈로그 적재용 - afterId 이후의 장소를 contentid 순으로 한 묶음씩 조회 (영속성 컨텍스트를 거치지 않음)
+    // (contentid, mapy, mapx, contenttypeid, cat1, cat2, cat3, areacode, createdtime, modifiedtime, lastUpdated,
+    // title, addr1, firstimage, firstimage2)
+    @Query("SELECT p.contentid, p.mapy, p.mapx, p.contenttypeid, p.cat1, p.cat2, p.cat3, p.areacode, p.createdtime, "
+            + "p.modifiedtime, p.lastUpdated, p.title, p.addr1, p.firstimage, p.firstimage2 FROM Places p "
+            + "WHERE p.contentid > :afterId ORDER BY p.contentid")
+    List<Object[]> findCatalogRowsAfter(@Param("afterId") Integer afterId, Pageable pageable);
 }
@@ -0,0 +1,68 @@
+package com.gayou.places.service;
+
+/**
+ * 위경도 좌표 사이의 하버사인 거리(미터) 계산
+ *
+ * 여러 장소 사이의 거리를 한꺼번에 구할 때는 라디안 값과 위도의 cos을 장소마다 한 번만 계산해 두고,
+ * 안쪽 반복은 기본형 배열만 순서대로 읽는 단순한 계산으로 유지합니다.
+ */
+public final class GeoDistance {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000.0;
+
+    private GeoDistance() {
+    }
+
+    /**
+     * 두 지점 사이의 하버사인 거리를 계산하는 메서드
+     *
+     * @return 거리 (미터)
+     */
+    public static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double sinLat = Math.sin(Math.toRadians(lat2 - lat1) * 0.5);
+        double sinLon = Math.sin(Math.toRadians(lon2 - lon1) * 0.5);
+        double a = sinLat * sinLat + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * 모든 지점 쌍의 거리 행렬을 계산하는 메서드
+     *
+     * @param latitudes  - 지점별 위도
+     * @param longitudes - 지점별 경도
+     * @return n x n 거리 행렬 (미터, 행 우선 1차원 배열, i행 j열 = i * n + j)
+     */
+    public static double[] matrix(double[] latitudes, double[] longitudes) {
+        int n = latitudes.length;
+        double[] lat = new double[n];
+        double[] lon = new double[n];
+        double[] cosLat = new double[n];
+        for (int i = 0; i < n; i++) {
+            lat[i] = Math.toRadians(latitudes[i]);
+            lon[i] = Math.toRadians(longitudes[i]);
+            cosLat[i] = Math.cos(lat[i]);
+        }
+
+        double[] distances = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            double latI = lat[i];
+            double lonI = lon[i];
+            double cosI = cosLat[i];
+            int row = i * n;
+            // 위쪽 삼각형만 계산
+            for (int j = i + 1; j < n; j++) {
+                double sinLat = Math.sin((lat[j] - latI) * 0.5);
+                double sinLon = Math.sin((lon[j] - lonI) * 0.5);
+                double a = sinLat * sinLat + cosI * cosLat[j] * sinLon * sinLon;
+                distances[row + j] = 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+            }
+        }
+        // 아래쪽 삼각형은 대칭으로 채움
+        for (int i = 1; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                distances[i * n + j] = distances[j * n + i];
+            }
+        }
+        return distances;
+    }
+}
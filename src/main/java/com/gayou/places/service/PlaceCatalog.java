@@ -0,0 +1,104 @@
+package com.gayou.places.service;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.gayou.places.repository.PlacesRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 장소 카탈로그 전체를 PlaceColumns 스냅샷으로 메모리에 보관하는 컴포넌트
+ *
+ * 장소 엔티티를 만들지 않고 필요한 열만 contentid 순으로 한 묶음씩 읽어 열 단위 배열에 채웁니다.
+ * 주기적으로 장소 수와 last_updated 최댓값을 확인해 바뀌었을 때만 다시 읽어 스냅샷을 통째로 교체합니다.
+ */
+@Component
+public class PlaceCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaceCatalog.class);
+
+    // 카탈로그를 한 번에 몇 행씩 읽을지
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    private final PlacesRepository placesRepository;
+    private final long refreshIntervalMinutes;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "place-catalog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile PlaceColumns columns = PlaceColumns.EMPTY;
+
+    public PlaceCatalog(PlacesRepository placesRepository,
+            @Value("${places.catalog.refresh-interval-minutes}") long refreshIntervalMinutes) {
+        this.placesRepository = placesRepository;
+        this.refreshIntervalMinutes = refreshIntervalMinutes;
+    }
+
+    /**
+     * 현재 카탈로그 스냅샷을 반환하는 메서드 (여러 값을 읽을 때는 한 번 받은 스냅샷을 계속 사용)
+     */
+    public PlaceColumns current() {
+        return columns;
+    }
+
+    /**
+     * 장소 수나 last_updated 최댓값이 바뀌었으면 카탈로그를 다시 읽어 교체하는 메서드
+     */
+    public synchronized void refresh() {
+        Object[] state = placesRepository.findCountAndLastUpdated().get(0);
+        long count = (Long) state[0];
+        Date lastUpdated = (Date) state[1];
+        PlaceColumns current = columns;
+        if (current != PlaceColumns.EMPTY && current.count() == count
+                && Objects.equals(current.lastUpdated(), lastUpdated)) {
+            return;
+        }
+
+        PlaceColumns.Builder builder = new PlaceColumns.Builder((int) count);
+        int afterId = Integer.MIN_VALUE;
+        List<Object[]> chunk;
+        do {
+            chunk = placesRepository.findCatalogRowsAfter(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (Object[] row : chunk) {
+                builder.add(row);
+            }
+            if (!chunk.isEmpty()) {
+                afterId = (Integer) chunk.get(chunk.size() - 1)[0];
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        columns = builder.build(count, lastUpdated);
+        log.info("Loaded place catalog with {} places", columns.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                log.error("Place catalog refresh failed", e);
+            }
+        }, 0, refreshIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+}
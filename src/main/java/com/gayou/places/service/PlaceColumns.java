@@ -0,0 +1,337 @@
+package com.gayou.places.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 장소 카탈로그 전체를 열 단위 기본형 배열로 보관하는 읽기 전용 스냅샷
+ *
+ * 장소는 contentid 오름차순으로 0부터 번호(index)가 매겨지며, 모든 열은 같은 번호로 읽습니다.
+ * 분류(contenttypeid, cat1~3, areacode)는 사전 번호로, 시각은 epoch 밀리초로 저장하고,
+ * 자주 쓰는 짧은 텍스트(title, addr1, firstimage, firstimage2)는 UTF-8로 이어 붙여 힙 밖(direct buffer)에 둡니다.
+ * 개요(overview), 전화번호 등 나머지 긴 텍스트는 보관하지 않으므로 필요하면 DB에서 조회해야 합니다.
+ */
+public final class PlaceColumns {
+
+    // 값이 없는 사전 번호, 시각
+    public static final int NO_CODE = -1;
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    // 힙 밖에 보관하는 텍스트 열
+    public static final int TITLE = 0;
+    public static final int ADDR1 = 1;
+    public static final int FIRSTIMAGE = 2;
+    public static final int FIRSTIMAGE2 = 3;
+    private static final int TEXT_COLUMNS = 4;
+
+    static final PlaceColumns EMPTY = new Builder(0).build(0, null);
+
+    private final int size;
+    private final int[] contentids;
+    // 좌표가 없으면 NaN
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final int[] contentTypeCodes;
+    private final int[] cat1Codes;
+    private final int[] cat2Codes;
+    private final int[] cat3Codes;
+    private final int[] areaCodes;
+    private final long[] createdTimes;
+    private final long[] modifiedTimes;
+    private final long[] lastUpdatedTimes;
+
+    private final Dictionary contentTypes;
+    private final Dictionary cat1s;
+    private final Dictionary cat2s;
+    private final Dictionary cat3s;
+    private final Dictionary areas;
+
+    // 텍스트 (장소 번호 * TEXT_COLUMNS + 열)번째 값은 text[textEnds[slot - 1], textEnds[slot]) - null이면 nullTexts에 표시
+    private final ByteBuffer text;
+    private final int[] textEnds;
+    private final BitSet nullTexts;
+
+    // 스냅샷을 만들 때의 장소 수와 last_updated 최댓값 (변경 확인용)
+    private final long count;
+    private final Date lastUpdated;
+
+    private PlaceColumns(Builder builder, long count, Date lastUpdated) {
+        int n = builder.size;
+        this.size = n;
+        this.contentids = Arrays.copyOf(builder.contentids, n);
+        this.latitudes = Arrays.copyOf(builder.latitudes, n);
+        this.longitudes = Arrays.copyOf(builder.longitudes, n);
+        this.contentTypeCodes = Arrays.copyOf(builder.contentTypeCodes, n);
+        this.cat1Codes = Arrays.copyOf(builder.cat1Codes, n);
+        this.cat2Codes = Arrays.copyOf(builder.cat2Codes, n);
+        this.cat3Codes = Arrays.copyOf(builder.cat3Codes, n);
+        this.areaCodes = Arrays.copyOf(builder.areaCodes, n);
+        this.createdTimes = Arrays.copyOf(builder.createdTimes, n);
+        this.modifiedTimes = Arrays.copyOf(builder.modifiedTimes, n);
+        this.lastUpdatedTimes = Arrays.copyOf(builder.lastUpdatedTimes, n);
+        this.contentTypes = builder.contentTypes;
+        this.cat1s = builder.cat1s;
+        this.cat2s = builder.cat2s;
+        this.cat3s = builder.cat3s;
+        this.areas = builder.areas;
+        this.text = ByteBuffer.allocateDirect(builder.textLength);
+        this.text.put(builder.text, 0, builder.textLength).flip();
+        this.textEnds = Arrays.copyOf(builder.textEnds, n * TEXT_COLUMNS);
+        this.nullTexts = builder.nullTexts;
+        this.count = count;
+        this.lastUpdated = lastUpdated;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * contentid에 해당하는 장소 번호를 찾는 메서드
+     *
+     * @param contentid - 장소 contentid
+     * @return 장소 번호 (카탈로그에 없으면 -1)
+     */
+    public int indexOf(int contentid) {
+        int index = Arrays.binarySearch(contentids, 0, size, contentid);
+        return index >= 0 ? index : -1;
+    }
+
+    public int contentid(int index) {
+        return contentids[index];
+    }
+
+    public boolean hasCoordinates(int index) {
+        return !Double.isNaN(latitudes[index]) && !Double.isNaN(longitudes[index]);
+    }
+
+    // 위도 (mapy)
+    public double latitude(int index) {
+        return latitudes[index];
+    }
+
+    // 경도 (mapx)
+    public double longitude(int index) {
+        return longitudes[index];
+    }
+
+    public int contentTypeCode(int index) {
+        return contentTypeCodes[index];
+    }
+
+    public int cat1Code(int index) {
+        return cat1Codes[index];
+    }
+
+    // 필터 값의 사전 번호 (사전에 없으면 NO_CODE)
+    public int contentTypeCodeOf(String contenttypeid) {
+        return contentTypes.code(contenttypeid);
+    }
+
+    public int cat1CodeOf(String cat1) {
+        return cat1s.code(cat1);
+    }
+
+    public String contenttypeid(int index) {
+        return contentTypes.value(contentTypeCodes[index]);
+    }
+
+    public String cat1(int index) {
+        return cat1s.value(cat1Codes[index]);
+    }
+
+    public String cat2(int index) {
+        return cat2s.value(cat2Codes[index]);
+    }
+
+    public String cat3(int index) {
+        return cat3s.value(cat3Codes[index]);
+    }
+
+    public Integer areacode(int index) {
+        String area = areas.value(areaCodes[index]);
+        return area == null ? null : Integer.valueOf(area);
+    }
+
+    public Date createdtime(int index) {
+        return toDate(createdTimes[index]);
+    }
+
+    public Date modifiedtime(int index) {
+        return toDate(modifiedTimes[index]);
+    }
+
+    public Date lastUpdated(int index) {
+        return toDate(lastUpdatedTimes[index]);
+    }
+
+    /**
+     * 힙 밖에 보관된 텍스트 열 값을 읽는 메서드 (읽을 때마다 새 String 생성)
+     *
+     * @param index  - 장소 번호
+     * @param column - 텍스트 열 (TITLE, ADDR1, FIRSTIMAGE, FIRSTIMAGE2)
+     * @return 텍스트 값 (없으면 null)
+     */
+    public String text(int index, int column) {
+        int slot = index * TEXT_COLUMNS + column;
+        if (nullTexts.get(slot)) {
+            return null;
+        }
+        int start = slot == 0 ? 0 : textEnds[slot - 1];
+        byte[] bytes = new byte[textEnds[slot] - start];
+        text.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    long count() {
+        return count;
+    }
+
+    Date lastUpdated() {
+        return lastUpdated;
+    }
+
+    private static Date toDate(long time) {
+        return time == NO_TIME ? null : new Date(time);
+    }
+
+    /**
+     * 문자열 값 <-> 사전 번호 변환표 (빌더가 채운 뒤에는 읽기만 함)
+     */
+    private static final class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private String[] values = new String[0];
+
+        int encode(String value) {
+            if (value == null) {
+                return NO_CODE;
+            }
+            return codes.computeIfAbsent(value, key -> {
+                values = Arrays.copyOf(values, values.length + 1);
+                values[values.length - 1] = key;
+                return values.length - 1;
+            });
+        }
+
+        int code(String value) {
+            Integer code = value == null ? null : codes.get(value);
+            return code == null ? NO_CODE : code;
+        }
+
+        String value(int code) {
+            return code == NO_CODE ? null : values[code];
+        }
+    }
+
+    /**
+     * contentid 오름차순으로 장소를 한 행씩 추가해 스냅샷을 만드는 빌더
+     */
+    static final class Builder {
+
+        private int size;
+        private int[] contentids;
+        private double[] latitudes;
+        private double[] longitudes;
+        private int[] contentTypeCodes;
+        private int[] cat1Codes;
+        private int[] cat2Codes;
+        private int[] cat3Codes;
+        private int[] areaCodes;
+        private long[] createdTimes;
+        private long[] modifiedTimes;
+        private long[] lastUpdatedTimes;
+        private final Dictionary contentTypes = new Dictionary();
+        private final Dictionary cat1s = new Dictionary();
+        private final Dictionary cat2s = new Dictionary();
+        private final Dictionary cat3s = new Dictionary();
+        private final Dictionary areas = new Dictionary();
+        private byte[] text = new byte[1024];
+        private int textLength;
+        private int[] textEnds;
+        private final BitSet nullTexts = new BitSet();
+
+        Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            contentids = new int[capacity];
+            latitudes = new double[capacity];
+            longitudes = new double[capacity];
+            contentTypeCodes = new int[capacity];
+            cat1Codes = new int[capacity];
+            cat2Codes = new int[capacity];
+            cat3Codes = new int[capacity];
+            areaCodes = new int[capacity];
+            createdTimes = new long[capacity];
+            modifiedTimes = new long[capacity];
+            lastUpdatedTimes = new long[capacity];
+            textEnds = new int[capacity * TEXT_COLUMNS];
+        }
+
+        /**
+         * 장소 한 행을 추가하는 메서드
+         *
+         * @param row - (contentid, mapy, mapx, contenttypeid, cat1, cat2, cat3, areacode, createdtime, modifiedtime,
+         *            lastUpdated, title, addr1, firstimage, firstimage2)
+         */
+        void add(Object[] row) {
+            if (size == contentids.length) {
+                grow();
+            }
+            int index = size++;
+            contentids[index] = (Integer) row[0];
+            latitudes[index] = row[1] == null ? Double.NaN : (Double) row[1];
+            longitudes[index] = row[2] == null ? Double.NaN : (Double) row[2];
+            contentTypeCodes[index] = contentTypes.encode((String) row[3]);
+            cat1Codes[index] = cat1s.encode((String) row[4]);
+            cat2Codes[index] = cat2s.encode((String) row[5]);
+            cat3Codes[index] = cat3s.encode((String) row[6]);
+            areaCodes[index] = areas.encode(row[7] == null ? null : row[7].toString());
+            createdTimes[index] = row[8] == null ? NO_TIME : ((Date) row[8]).getTime();
+            modifiedTimes[index] = row[9] == null ? NO_TIME : ((Date) row[9]).getTime();
+            lastUpdatedTimes[index] = row[10] == null ? NO_TIME : ((Date) row[10]).getTime();
+            for (int column = 0; column < TEXT_COLUMNS; column++) {
+                int slot = index * TEXT_COLUMNS + column;
+                String value = (String) row[11 + column];
+                if (value == null) {
+                    nullTexts.set(slot);
+                } else {
+                    appendText(value.getBytes(StandardCharsets.UTF_8));
+                }
+                textEnds[slot] = textLength;
+            }
+        }
+
+        PlaceColumns build(long count, Date lastUpdated) {
+            return new PlaceColumns(this, count, lastUpdated);
+        }
+
+        private void appendText(byte[] bytes) {
+            if (textLength + bytes.length > text.length) {
+                text = Arrays.copyOf(text, Math.max(text.length * 2, textLength + bytes.length));
+            }
+            System.arraycopy(bytes, 0, text, textLength, bytes.length);
+            textLength += bytes.length;
+        }
+
+        private void grow() {
+            int capacity = contentids.length * 2;
+            contentids = Arrays.copyOf(contentids, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            contentTypeCodes = Arrays.copyOf(contentTypeCodes, capacity);
+            cat1Codes = Arrays.copyOf(cat1Codes, capacity);
+            cat2Codes = Arrays.copyOf(cat2Codes, capacity);
+            cat3Codes = Arrays.copyOf(cat3Codes, capacity);
+            areaCodes = Arrays.copyOf(areaCodes, capacity);
+            createdTimes = Arrays.copyOf(createdTimes, capacity);
+            modifiedTimes = Arrays.copyOf(modifiedTimes, capacity);
+            lastUpdatedTimes = Arrays.copyOf(lastUpdatedTimes, capacity);
+            textEnds = Arrays.copyOf(textEnds, capacity * TEXT_COLUMNS);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.gayou.places.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.gayou.places.dto.PlaceDistanceMatrixDto;
+import com.gayou.places.exception.PlacesWithoutCoordinatesException;
+
+/**
+ * 장소 간 거리 행렬을 계산하는 서비스
+ */
+@Service
+public class PlaceDistanceService {
+
+    private final PlaceCatalog placeCatalog;
+    private final int maxPlaces;
+
+    public PlaceDistanceService(PlaceCatalog placeCatalog,
+            @Value("${places.distance-matrix.max-places}") int maxPlaces) {
+        this.placeCatalog = placeCatalog;
+        this.maxPlaces = maxPlaces;
+    }
+
+    public int getMaxPlaces() {
+        return maxPlaces;
+    }
+
+    /**
+     * 장소들의 모든 쌍 사이 거리를 계산하는 메서드
+     *
+     * @param contentids - 장소 contentid 목록 (중복은 한 번만 포함)
+     * @return 요청 순서의 contentid와 거리 행렬 (미터)
+     * @throws PlacesWithoutCoordinatesException - 카탈로그에 없거나 좌표가 없는 장소가 있는 경우 (해당 contentid 포함)
+     * @throws IllegalArgumentException          - 장소 수가 1 ~ maxPlaces 범위를 벗어난 경우
+     */
+    public PlaceDistanceMatrixDto getDistanceMatrix(List<Integer> contentids) {
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(contentids));
+        if (ids.isEmpty() || ids.size() > maxPlaces) {
+            throw new IllegalArgumentException("Distance matrix needs 1 to " + maxPlaces + " places: " + ids.size());
+        }
+
+        // 좌표는 카탈로그에서 읽음 (DB 조회 없음)
+        PlaceColumns places = placeCatalog.current();
+        int n = ids.size();
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            int index = places.indexOf(ids.get(i));
+            if (index < 0 || !places.hasCoordinates(index)) {
+                missing.add(ids.get(i));
+                continue;
+            }
+            latitudes[i] = places.latitude(index);
+            longitudes[i] = places.longitude(index);
+        }
+        if (!missing.isEmpty()) {
+            throw new PlacesWithoutCoordinatesException(missing);
+        }
+
+        double[] meters = GeoDistance.matrix(latitudes, longitudes);
+        int[] distances = new int[meters.length];
+        for (int i = 0; i < meters.length; i++) {
+            distances[i] = (int) Math.round(meters[i]);
+        }
+
+        PlaceDistanceMatrixDto result = new PlaceDistanceMatrixDto();
+        result.setContentids(ids);
+        result.setDistances(distances);
+        return result;
+    }
+}
@@ -0,0 +1,204 @@
+package com.gayou.places.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * 장소 카탈로그 덤프 파일(JSON/CSV)을 한 행씩 읽는 리더
+ *
+ * 파일 전체를 메모리에 올리지 않고 스트리밍으로 읽으며, 각 행을 (필드 이름 -> 문자열 값) Map으로 돌려줍니다.
+ * JSON은 파일에서 처음 나오는 배열의 원소(객체)를 행으로 보므로 최상위 배열과
+ * 관광공사 API 응답 형식({"response":{"body":{"items":{"item":[...]}}}}) 모두 읽을 수 있습니다.
+ * CSV는 첫 줄을 헤더로 보며, 큰따옴표로 감싼 필드(쉼표, 줄바꿈, "" 포함)를 지원합니다.
+ * 빈 문자열은 null로 읽습니다.
+ */
+abstract class PlaceDumpReader implements Closeable {
+
+    /**
+     * 덤프 파일을 여는 메서드 (확장자가 .csv이면 CSV, 아니면 JSON)
+     */
+    static PlaceDumpReader open(Path file) throws IOException {
+        InputStream input = Files.newInputStream(file);
+        try {
+            return file.getFileName().toString().toLowerCase().endsWith(".csv") ? new Csv(input) : new Json(input);
+        } catch (IOException | RuntimeException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 다음 행을 읽는 메서드
+     *
+     * @return 필드 이름 -> 값 (파일 끝이면 null)
+     */
+    abstract Map<String, String> next() throws IOException;
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static final class Json extends PlaceDumpReader {
+
+        private final JsonParser parser;
+        private boolean inArray;
+
+        private Json(InputStream input) throws IOException {
+            this.parser = new JsonFactory().createParser(input);
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_ARRAY) {
+                    inArray = true;
+                    break;
+                }
+            }
+        }
+
+        @Override
+        Map<String, String> next() throws IOException {
+            if (!inArray) {
+                return null;
+            }
+            JsonToken token = parser.nextToken();
+            while (token != null && token != JsonToken.START_OBJECT && token != JsonToken.END_ARRAY) {
+                // 배열 안의 객체가 아닌 값은 건너뜀
+                parser.skipChildren();
+                token = parser.nextToken();
+            }
+            if (token != JsonToken.START_OBJECT) {
+                inArray = false;
+                return null;
+            }
+
+            Map<String, String> record = new HashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                } else if (value != JsonToken.VALUE_NULL) {
+                    record.put(name, emptyToNull(parser.getValueAsString()));
+                }
+            }
+            return record;
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    private static final class Csv extends PlaceDumpReader {
+
+        private final Reader reader;
+        private final List<String> header;
+        // 한 글자 미리 읽은 값 (없으면 -2)
+        private int peeked = -2;
+
+        private Csv(InputStream input) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 1 << 16);
+            // UTF-8 BOM은 건너뜀
+            int first = read();
+            if (first != '\uFEFF') {
+                peeked = first;
+            }
+            List<String> names = readRecord();
+            this.header = names == null ? List.of() : names;
+        }
+
+        @Override
+        Map<String, String> next() throws IOException {
+            List<String> fields = readRecord();
+            while (fields != null && fields.size() == 1 && fields.get(0).isEmpty()) {
+                // 빈 줄은 건너뜀
+                fields = readRecord();
+            }
+            if (fields == null) {
+                return null;
+            }
+            Map<String, String> record = new HashMap<>();
+            for (int i = 0; i < header.size() && i < fields.size(); i++) {
+                record.put(header.get(i), emptyToNull(fields.get(i)));
+            }
+            return record;
+        }
+
+        // 한 레코드의 필드 목록 (파일 끝이면 null)
+        private List<String> readRecord() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IOException("Unterminated quoted field in CSV");
+                    }
+                    if (c == '"') {
+                        int next = read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    break;
+                } else if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        peeked = next;
+                    }
+                    break;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        private int read() throws IOException {
+            if (peeked != -2) {
+                int c = peeked;
+                peeked = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.gayou.places.service;
+
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.gayou.places.dto.PlacesDto;
+import com.gayou.places.model.Places;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 장소(Places) 응답 스냅샷 캐시
+ *
+ * 인기 장소는 여러 경로에 반복해서 등장하므로, contentid별로 한 번 만든 PlacesDto를 공유합니다.
+ * 캐시된 스냅샷의 lastUpdated가 엔티티와 다르면 장소 정보가 갱신된 것으로 보고 새로 만듭니다.
+ * 반환된 PlacesDto는 여러 응답이 함께 참조하므로 절대 수정하면 안 됩니다.
+ */
+@Component
+public class PlaceSnapshotCache {
+
+    private final Cache<Integer, PlacesDto> snapshots;
+
+    public PlaceSnapshotCache(@Value("${places.snapshot-cache.max-size}") long maxSize) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 장소 엔티티에 해당하는 공유 스냅샷을 반환하는 메서드
+     *
+     * @param places - 스냅샷을 만들 장소 엔티티
+     * @return 읽기 전용으로 공유되는 PlacesDto
+     */
+    public PlacesDto get(Places places) {
+        // last_updated가 비어 있으면 변경 여부를 판단할 수 없으므로 캐시하지 않음
+        if (places.getLastUpdated() == null) {
+            return toDto(places);
+        }
+
+        PlacesDto cached = snapshots.getIfPresent(places.getContentid());
+        if (cached != null && Objects.equals(cached.getLastUpdated(), places.getLastUpdated())) {
+            return cached;
+        }
+
+        PlacesDto snapshot = toDto(places);
+        snapshots.put(places.getContentid(), snapshot);
+        return snapshot;
+    }
+
+    private PlacesDto toDto(Places places) {
+        PlacesDto placesDto = new PlacesDto(places.getContentid());
+        placesDto.setTitle(places.getTitle());
+        placesDto.setAddr1(places.getAddr1());
+        placesDto.setAddr2(places.getAddr2());
+        placesDto.setAreacode(places.getAreacode());
+        placesDto.setBooktour(places.getBooktour());
+        placesDto.setCat1(places.getCat1());
+        placesDto.setCat2(places.getCat2());
+        placesDto.setCat3(places.getCat3());
+        placesDto.setContenttypeid(places.getContenttypeid());
+        placesDto.setCreatedtime(places.getCreatedtime());
+        placesDto.setFirstimage(places.getFirstimage());
+        placesDto.setFirstimage2(places.getFirstimage2());
+        placesDto.setMapx(places.getMapx());
+        placesDto.setMapy(places.getMapy());
+        placesDto.setModifiedtime(places.getModifiedtime());
+        placesDto.setTel(places.getTel());
+        placesDto.setOverview(places.getOverview());
+        placesDto.setLastUpdated(places.getLastUpdated());
+        return placesDto;
+    }
+}
@@ -0,0 +1,246 @@
+package com.gayou.places.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.gayou.places.dto.PlaceNearbyDto;
+
+/**
+ * 카탈로그의 좌표가 있는 장소를 위경도 격자로 나눠 둔 공간 인덱스
+ *
+ * 격자 칸 번호(행 * 열 수 + 열) 순으로 장소 번호를 정렬해 두므로 한 행에 걸친 칸들은 배열에서 연속해 있고,
+ * 영역/반경 검색은 검색 범위에 걸친 행마다 이진 탐색 한 번으로 후보를 찾습니다 (DB 조회 없음).
+ * 카탈로그 스냅샷이 교체되면 다음 검색 때 격자를 다시 만듭니다.
+ * 경도 ±180도(날짜 변경선)를 넘는 검색 범위는 고려하지 않습니다.
+ */
+@Component
+public class PlaceSpatialIndex {
+
+    // 위도 1도의 길이 (미터)
+    private static final double METERS_PER_DEGREE = 111_195.0;
+
+    // 필터 조건 없음
+    private static final int ANY = -2;
+
+    private final PlaceCatalog placeCatalog;
+    private final double cellDegrees;
+    private final int columns;
+
+    private volatile Grid grid;
+
+    public PlaceSpatialIndex(PlaceCatalog placeCatalog,
+            @Value("${places.spatial-index.cell-degrees}") double cellDegrees) {
+        this.placeCatalog = placeCatalog;
+        this.cellDegrees = cellDegrees;
+        this.columns = (int) Math.ceil(360 / cellDegrees) + 1;
+    }
+
+    /**
+     * 카탈로그 스냅샷 하나에 대한 격자 (교체만 되고 수정되지 않음)
+     */
+    private static final class Grid {
+
+        private final PlaceColumns places;
+        // 장소가 있는 격자 칸 번호 (오름차순)와 칸별 시작 위치 (마지막 원소는 장소 수)
+        private final long[] cellKeys;
+        private final int[] cellStarts;
+        // 격자 칸 순으로 정렬한 장소 번호와 좌표 (검색 시 연속해서 읽도록 좌표를 복사해 둠)
+        private final int[] indexes;
+        private final double[] latitudes;
+        private final double[] longitudes;
+
+        private Grid(PlaceColumns places, long[] cellKeys, int[] cellStarts, int[] indexes, double[] latitudes,
+                double[] longitudes) {
+            this.places = places;
+            this.cellKeys = cellKeys;
+            this.cellStarts = cellStarts;
+            this.indexes = indexes;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+        }
+    }
+
+    /**
+     * 중심에서 반경 안에 있는 장소를 가까운 순으로 검색하는 메서드
+     *
+     * @param latitude      - 중심 위도
+     * @param longitude     - 중심 경도
+     * @param radiusMeters  - 반경 (미터)
+     * @param contenttypeid - 관광 타입 (null이면 전체)
+     * @param cat1          - 대분류 (null이면 전체)
+     * @param size          - 최대 개수
+     * @return 거리 오름차순 장소 목록
+     */
+    public List<PlaceNearbyDto> findNearby(double latitude, double longitude, double radiusMeters,
+            String contenttypeid, String cat1, int size) {
+        Grid current = currentGrid();
+        double latDelta = radiusMeters / METERS_PER_DEGREE;
+        double lonDelta = latDelta / Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+
+        List<long[]> candidates = new ArrayList<>();
+        scan(current, latitude - latDelta, longitude - lonDelta, latitude + latDelta, longitude + lonDelta,
+                contenttypeid, cat1, position -> {
+                    double distance = GeoDistance.haversine(latitude, longitude, current.latitudes[position],
+                            current.longitudes[position]);
+                    if (distance <= radiusMeters) {
+                        candidates.add(new long[] { Math.round(distance), current.indexes[position] });
+                    }
+                    return true;
+                });
+        // 거리가 같으면 장소 번호(contentid) 순
+        candidates.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+        List<PlaceNearbyDto> result = new ArrayList<>(Math.min(size, candidates.size()));
+        for (int k = 0; k < candidates.size() && k < size; k++) {
+            PlaceNearbyDto dto = toDto(current.places, (int) candidates.get(k)[1]);
+            dto.setDistance(candidates.get(k)[0]);
+            result.add(dto);
+        }
+        return result;
+    }
+
+    /**
+     * 위경도 사각형 영역 안의 장소를 검색하는 메서드
+     *
+     * @param minLatitude   - 남쪽 위도
+     * @param minLongitude  - 서쪽 경도
+     * @param maxLatitude   - 북쪽 위도
+     * @param maxLongitude  - 동쪽 경도
+     * @param contenttypeid - 관광 타입 (null이면 전체)
+     * @param cat1          - 대분류 (null이면 전체)
+     * @param size          - 최대 개수
+     * @return 영역 안의 장소 목록 (격자 칸 순)
+     */
+    public List<PlaceNearbyDto> findWithin(double minLatitude, double minLongitude, double maxLatitude,
+            double maxLongitude, String contenttypeid, String cat1, int size) {
+        Grid current = currentGrid();
+        List<PlaceNearbyDto> result = new ArrayList<>();
+        if (size <= 0) {
+            return result;
+        }
+        // size개를 채우면 남은 칸은 보지 않음
+        scan(current, minLatitude, minLongitude, maxLatitude, maxLongitude, contenttypeid, cat1, position -> {
+            result.add(toDto(current.places, current.indexes[position]));
+            return result.size() < size;
+        });
+        return result;
+    }
+
+    // 사각형 영역과 필터에 맞는 장소의 격자 배열 위치를 차례로 전달 (consumer가 false를 반환하면 중단)
+    private void scan(Grid current, double minLatitude, double minLongitude, double maxLatitude,
+            double maxLongitude, String contenttypeid, String cat1, IntPredicate consumer) {
+        PlaceColumns places = current.places;
+        int contentTypeCode = isBlank(contenttypeid) ? ANY : places.contentTypeCodeOf(contenttypeid);
+        int cat1Code = isBlank(cat1) ? ANY : places.cat1CodeOf(cat1);
+        if (contentTypeCode == PlaceColumns.NO_CODE || cat1Code == PlaceColumns.NO_CODE) {
+            return;
+        }
+
+        int rowMin = row(Math.max(minLatitude, -90));
+        int rowMax = row(Math.min(maxLatitude, 90));
+        int colMin = column(Math.max(minLongitude, -180));
+        int colMax = column(Math.min(maxLongitude, 180));
+        for (int row = rowMin; row <= rowMax; row++) {
+            long lastKey = (long) row * columns + colMax;
+            int cell = Arrays.binarySearch(current.cellKeys, (long) row * columns + colMin);
+            for (cell = cell >= 0 ? cell : -cell - 1; cell < current.cellKeys.length
+                    && current.cellKeys[cell] <= lastKey; cell++) {
+                for (int position = current.cellStarts[cell]; position < current.cellStarts[cell + 1]; position++) {
+                    double latitude = current.latitudes[position];
+                    double longitude = current.longitudes[position];
+                    if (latitude >= minLatitude && latitude <= maxLatitude && longitude >= minLongitude
+                            && longitude <= maxLongitude
+                            && (contentTypeCode == ANY
+                                    || places.contentTypeCode(current.indexes[position]) == contentTypeCode)
+                            && (cat1Code == ANY || places.cat1Code(current.indexes[position]) == cat1Code)) {
+                        if (!consumer.test(position)) {
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    private static PlaceNearbyDto toDto(PlaceColumns places, int index) {
+        PlaceNearbyDto dto = new PlaceNearbyDto();
+        dto.setContentid(places.contentid(index));
+        dto.setTitle(places.text(index, PlaceColumns.TITLE));
+        dto.setContenttypeid(places.contenttypeid(index));
+        dto.setCat1(places.cat1(index));
+        dto.setMapx(places.longitude(index));
+        dto.setMapy(places.latitude(index));
+        dto.setFirstimage2(places.text(index, PlaceColumns.FIRSTIMAGE2));
+        return dto;
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor((latitude + 90) / cellDegrees);
+    }
+
+    private int column(double longitude) {
+        return (int) Math.floor((longitude + 180) / cellDegrees);
+    }
+
+    // 카탈로그 스냅샷이 바뀌었으면 격자를 다시 만듦 (동시에 여러 요청이 와도 한 번만 만듦)
+    private Grid currentGrid() {
+        PlaceColumns places = placeCatalog.current();
+        Grid current = grid;
+        if (current != null && current.places == places) {
+            return current;
+        }
+        synchronized (this) {
+            current = grid;
+            if (current == null || current.places != places) {
+                current = build(places);
+                grid = current;
+            }
+            return current;
+        }
+    }
+
+    private Grid build(PlaceColumns places) {
+        // 상위 32비트에 격자 칸 번호, 하위 32비트에 장소 번호를 담아 기본형 정렬
+        long[] order = new long[places.size()];
+        int n = 0;
+        for (int index = 0; index < places.size(); index++) {
+            if (places.hasCoordinates(index)) {
+                long cellKey = (long) row(places.latitude(index)) * columns + column(places.longitude(index));
+                order[n++] = cellKey << 32 | index;
+            }
+        }
+        Arrays.sort(order, 0, n);
+
+        int[] indexes = new int[n];
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        long[] cellKeys = new long[n];
+        int[] cellStarts = new int[n + 1];
+        int cells = 0;
+        for (int position = 0; position < n; position++) {
+            long cellKey = order[position] >>> 32;
+            int index = (int) order[position];
+            indexes[position] = index;
+            latitudes[position] = places.latitude(index);
+            longitudes[position] = places.longitude(index);
+            if (cells == 0 || cellKeys[cells - 1] != cellKey) {
+                cellKeys[cells] = cellKey;
+                cellStarts[cells] = position;
+                cells++;
+            }
+        }
+        cellStarts[cells] = n;
+
+        return new Grid(places, Arrays.copyOf(cellKeys, cells), Arrays.copyOf(cellStarts, cells + 1), indexes,
+                latitudes, longitudes);
+    }
+}
@@ -0,0 +1,14 @@
+package com.gayou.places.service;
+
+import java.util.Set;
+
+/**
+ * 적재 작업으로 기존 장소의 정보가 바뀌었음을 알리는 이벤트
+ *
+ * 장소 정보를 복사해 두는 읽기 모델(경로 카드 등)이 해당 장소를 포함한 항목을 다시 만들 때 사용합니다.
+ * 새로 추가된 장소는 아직 어디에도 포함되지 않았으므로 담지 않습니다.
+ *
+ * @param contentids - 정보가 바뀐 장소의 contentid
+ */
+public record PlacesChangedEvent(Set<Integer> contentids) {
+}
@@ -0,0 +1,310 @@
+package com.gayou.places.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.gayou.places.model.Places;
+import com.gayou.places.repository.PlacesRepository;
+
+/**
+ * 장소 카탈로그 덤프 파일(JSON/CSV)을 places 테이블에 반영하는 적재 작업
+ *
+ * 덤프를 한 행씩 스트리밍으로 읽어 카탈로그(PlaceColumns)의 modifiedtime과 비교하고,
+ * 새 장소이거나 modifiedtime이 더 최근인 행만 chunk-size개씩 묶어 JDBC 배치 upsert로 저장합니다.
+ * 저장은 parallelism개의 작업 스레드가 나눠 하며, 같은 contentid는 항상 같은 스레드가 읽은 순서대로 저장합니다.
+ * 대기 중인 묶음 수를 제한하므로 덤프 크기와 관계없이 메모리 사용량이 일정합니다.
+ * 묶음마다 따로 커밋되므로 중간에 실패해도 다시 실행하면 아직 반영되지 않은 행만 저장합니다.
+ * 저장이 끝나면 (실패한 경우에도 이미 커밋된 묶음에 대해) 정보가 바뀐 기존 장소를 PlacesChangedEvent로 알립니다.
+ * places.ingestion.file이 설정되어 있으면 애플리케이션 시작 후 한 번 실행합니다.
+ */
+@Component
+public class PlacesIngestionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PlacesIngestionJob.class);
+
+    // 덤프의 시각 형식 (관광공사 API 형식, ISO 형식)
+    private static final String[] TIME_PATTERNS = { "yyyyMMddHHmmss", "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss" };
+
+    private final PlacesRepository placesRepository;
+    private final PlaceCatalog placeCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String file;
+    private final int chunkSize;
+    private final int parallelism;
+    private final long progressIntervalMillis;
+
+    public PlacesIngestionJob(PlacesRepository placesRepository, PlaceCatalog placeCatalog,
+            ApplicationEventPublisher eventPublisher, @Value("${places.ingestion.file}") String file,
+            @Value("${places.ingestion.chunk-size}") int chunkSize,
+            @Value("${places.ingestion.parallelism}") int parallelism,
+            @Value("${places.ingestion.progress-interval-seconds}") long progressIntervalSeconds) {
+        this.placesRepository = placesRepository;
+        this.placeCatalog = placeCatalog;
+        this.eventPublisher = eventPublisher;
+        this.file = file;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+        this.progressIntervalMillis = TimeUnit.SECONDS.toMillis(progressIntervalSeconds);
+    }
+
+    /**
+     * 적재 결과 (행 수와 소요 시간)
+     *
+     * @param read          - 덤프에서 읽은 행 수
+     * @param upserted      - 저장한 (새로 추가되었거나 바뀐) 행 수
+     * @param unchanged     - modifiedtime이 같거나 오래되어 건너뛴 행 수
+     * @param invalid       - contentid가 없거나 값 형식이 잘못되어 건너뛴 행 수
+     * @param elapsedMillis - 소요 시간 (밀리초)
+     */
+    public record Result(long read, long upserted, long unchanged, long invalid, long elapsedMillis) {
+
+        public long rowsPerSecond() {
+            return elapsedMillis == 0 ? read : read * 1000 / elapsedMillis;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (file == null || file.isBlank()) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                run(Path.of(file));
+            } catch (RuntimeException e) {
+                log.error("Places ingestion from {} failed", file, e);
+            }
+        }, "places-ingestion");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 덤프 파일을 읽어 바뀐 장소만 저장하는 메서드
+     *
+     * @param dump - 덤프 파일 경로 (.csv이면 CSV, 아니면 JSON)
+     * @return 적재 결과
+     */
+    public Result run(Path dump) {
+        long startedAt = System.currentTimeMillis();
+        // 비교 기준은 적재 시작 시점의 카탈로그
+        placeCatalog.refresh();
+        PlaceColumns stored = placeCatalog.current();
+
+        // contentid별로 작업 스레드를 고정해 같은 장소의 저장 순서를 지킴
+        ExecutorService[] workers = new ExecutorService[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "places-ingestion-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        AtomicLong upserted = new AtomicLong();
+        // 저장한 행 중 카탈로그에 이미 있던 장소 (새 장소는 어느 경로에도 포함되지 않음)
+        Set<Integer> changed = ConcurrentHashMap.newKeySet();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        long read = 0;
+        long unchanged = 0;
+        long invalid = 0;
+        long lastProgressAt = startedAt;
+        List<List<Places>> chunks = new ArrayList<>();
+        for (int i = 0; i < parallelism; i++) {
+            chunks.add(new ArrayList<>(chunkSize));
+        }
+
+        try (PlaceDumpReader reader = PlaceDumpReader.open(dump)) {
+            Map<String, String> record;
+            while (failure.get() == null && (record = reader.next()) != null) {
+                read++;
+                Places place = toPlaces(record);
+                if (place == null) {
+                    invalid++;
+                    continue;
+                }
+                if (!isChanged(stored, place)) {
+                    unchanged++;
+                    continue;
+                }
+
+                int worker = Math.floorMod(place.getContentid(), parallelism);
+                List<Places> chunk = chunks.get(worker);
+                chunk.add(place);
+                if (chunk.size() == chunkSize) {
+                    submit(workers[worker], chunk, stored, inFlight, upserted, changed, failure);
+                    chunks.set(worker, new ArrayList<>(chunkSize));
+                }
+
+                long now = System.currentTimeMillis();
+                if (now - lastProgressAt >= progressIntervalMillis) {
+                    lastProgressAt = now;
+                    log.info("Places ingestion progress: read {}, upserted {}, unchanged {}, invalid {} ({} rows/s)",
+                            read, upserted.get(), unchanged, invalid, read * 1000 / Math.max(1, now - startedAt));
+                }
+            }
+            for (int i = 0; i < parallelism; i++) {
+                if (!chunks.get(i).isEmpty()) {
+                    submit(workers[i], chunks.get(i), stored, inFlight, upserted, changed, failure);
+                }
+            }
+        } catch (IOException e) {
+            failure.compareAndSet(null, new UncheckedIOException("Failed to read places dump " + dump, e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new IllegalStateException("Places ingestion interrupted", e));
+        } finally {
+            awaitWorkers(workers);
+        }
+
+        // 실패했더라도 이미 커밋된 묶음은 카탈로그와 읽기 모델에 반영
+        if (upserted.get() > 0) {
+            placeCatalog.refresh();
+        }
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(new PlacesChangedEvent(changed));
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        Result result = new Result(read, upserted.get(), unchanged, invalid, System.currentTimeMillis() - startedAt);
+        log.info("Ingested places from {}: read {}, upserted {}, unchanged {}, invalid {} in {} ms ({} rows/s)", dump,
+                result.read(), result.upserted(), result.unchanged(), result.invalid(), result.elapsedMillis(),
+                result.rowsPerSecond());
+        return result;
+    }
+
+    // 대기 중인 묶음이 많으면 읽기를 멈추고 기다림
+    private void submit(ExecutorService worker, List<Places> chunk, PlaceColumns stored, Semaphore inFlight,
+            AtomicLong upserted, Set<Integer> changed, AtomicReference<RuntimeException> failure)
+            throws InterruptedException {
+        inFlight.acquire();
+        worker.execute(() -> {
+            try {
+                if (failure.get() == null) {
+                    placesRepository.upsertAll(chunk);
+                    upserted.addAndGet(chunk.size());
+                    for (Places place : chunk) {
+                        if (stored.indexOf(place.getContentid()) >= 0) {
+                            changed.add(place.getContentid());
+                        }
+                    }
+                }
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private static void awaitWorkers(ExecutorService[] workers) {
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+        try {
+            for (ExecutorService worker : workers) {
+                worker.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (ExecutorService worker : workers) {
+                worker.shutdownNow();
+            }
+        }
+    }
+
+    // 카탈로그에 없거나 덤프의 modifiedtime이 더 최근이면 변경된 행
+    private static boolean isChanged(PlaceColumns stored, Places place) {
+        int index = stored.indexOf(place.getContentid());
+        if (index < 0) {
+            return true;
+        }
+        Date storedTime = stored.modifiedtime(index);
+        Date dumpTime = place.getModifiedtime();
+        return dumpTime != null && (storedTime == null || dumpTime.after(storedTime));
+    }
+
+    // 덤프 한 행을 장소 값 객체로 변환 (contentid가 없거나 값 형식이 잘못되었으면 null)
+    private static Places toPlaces(Map<String, String> record) {
+        try {
+            String contentid = record.get("contentid");
+            if (contentid == null) {
+                return null;
+            }
+            Places place = new Places();
+            place.setContentid(Integer.valueOf(contentid.trim()));
+            place.setTitle(record.get("title"));
+            place.setAddr1(record.get("addr1"));
+            place.setAddr2(record.get("addr2"));
+            place.setAreacode(toInteger(record.get("areacode")));
+            place.setBooktour(toDouble(record.get("booktour")));
+            place.setCat1(record.get("cat1"));
+            place.setCat2(record.get("cat2"));
+            place.setCat3(record.get("cat3"));
+            place.setContenttypeid(record.get("contenttypeid"));
+            place.setCreatedtime(toDate(record.get("createdtime")));
+            place.setFirstimage(record.get("firstimage"));
+            place.setFirstimage2(record.get("firstimage2"));
+            place.setMapx(toDouble(record.get("mapx")));
+            place.setMapy(toDouble(record.get("mapy")));
+            place.setModifiedtime(toDate(record.get("modifiedtime")));
+            place.setTel(record.get("tel"));
+            place.setOverview(record.get("overview"));
+            return place;
+        } catch (NumberFormatException | ParseException e) {
+            return null;
+        }
+    }
+
+    private static Integer toInteger(String value) {
+        return value == null ? null : Integer.valueOf(value.trim());
+    }
+
+    private static Double toDouble(String value) {
+        return value == null ? null : Double.valueOf(value.trim());
+    }
+
+    private static Date toDate(String value) throws ParseException {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        for (String pattern : TIME_PATTERNS) {
+            SimpleDateFormat format = new SimpleDateFormat(pattern);
+            format.setLenient(false);
+            ParsePosition position = new ParsePosition(0);
+            Date date = format.parse(trimmed, position);
+            if (date != null && position.getIndex() == trimmed.length()) {
+                return date;
+            }
+        }
+        throw new ParseException("Unsupported time format: " + value, 0);
+    }
+}
@@ -1,9 +1,13 @@
 package com.gayou.route.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,17 +18,37 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gayou.hashtag.service.HashtagResolver;
+import com.gayou.route.dto.RouteCacheStatsDto;
+import com.gayou.route.dto.RouteFeedDto;
+import com.gayou.route.dto.RouteFeedFilter;
 import com.gayou.route.dto.RouteHeadDto;
+import com.gayou.route.dto.RouteOptimizeRequestDto;
+import com.gayou.route.exception.PlacesNotFoundException;
 import com.gayou.route.service.RouteService;
+import com.gayou.route.service.RouteStreamService;
 
 @RestController
 @RequestMapping("/route")
 public class RouteController {
 
+    // 목록 조회 시 view=summary이면 장소 상세 정보를 뺀 요약 목록을 반환
+    private static final String SUMMARY_VIEW = "summary";
+
     @Autowired
     private RouteService routeService;
 
+    @Autowired
+    private RouteStreamService routeStreamService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * 사용자의 경로를 저장하는 메서드
      *
@@ -38,6 +62,8 @@ public class RouteController {
         try {
             Long routeHeadId = routeService.saveRoute(routeDTO, email);
             return ResponseEntity.status(HttpStatus.CREATED).body(routeHeadId);
+        } catch (PlacesNotFoundException e) {
+            return ResponseEntity.badRequest().body("존재하지 않는 장소가 포함되어 있습니다: " + e.getContentids());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body("잘못된 경로 데이터입니다.");
         } catch (Exception e) {
@@ -45,16 +71,50 @@ public class RouteController {
         }
     }
 
+    /**
+     * 장소 방문 순서를 총 이동 거리가 짧아지도록 최적화하는 메서드
+     *
+     * @param request - 방문할 장소 contentid 목록과 출발지/도착지 고정 여부
+     * @return ResponseEntity<RouteOptimizeDto> - 최적화된 방문 순서와 총 거리(미터)를 반환
+     */
+    @PostMapping("/optimize")
+    public ResponseEntity<?> optimizeRoute(@RequestBody RouteOptimizeRequestDto request) {
+        try {
+            return ResponseEntity.ok(routeService.optimizeRoute(request));
+        } catch (PlacesNotFoundException e) {
+            return ResponseEntity.badRequest().body("존재하지 않는 장소가 포함되어 있습니다: " + e.getContentids());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("최적화할 수 없는 경로입니다.");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("경로 최적화 중 문제가 발생했습니다.");
+        }
+    }
+
     /**
      * 사용자가 저장한 경로 목록을 반환하는 메서드
      *
-     * @param email - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param email  - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param view   - 응답 형태 (full: 전체 정보, summary: 목록 요약)
+     * @param stream - true이면 전체 정보 목록을 묶음 단위로 스트리밍 (view=full에만 적용)
      * @return ResponseEntity<List<RouteHeadDto>> - 사용자가 저장한 경로 목록을 반환
      */
     @GetMapping("/locations")
-    public ResponseEntity<?> getMyCourse(@AuthenticationPrincipal String email) {
+    public ResponseEntity<?> getMyCourse(@AuthenticationPrincipal String email,
+            @RequestParam(value = "view", defaultValue = "full") String view,
+            @RequestParam(value = "stream", defaultValue = "false") boolean stream, WebRequest request) {
+        if (stream && !SUMMARY_VIEW.equals(view)) {
+            return streamRoutes(sink -> routeStreamService.streamMyRoutes(email, sink));
+        }
+
         try {
-            List<RouteHeadDto> data = routeService.getMyRoute(email);
+            // 경로 목록이 바뀌지 않았으면 304 (Not Modified)
+            String etag = routeService.getMyRouteETag(email, SUMMARY_VIEW.equals(view));
+            if (etag != null && request.checkNotModified(etag)) {
+                return null;
+            }
+
+            List<?> data = SUMMARY_VIEW.equals(view) ? routeService.getMyRouteSummaries(email)
+                    : routeService.getMyRoute(email);
             if (data.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body("저장된 경로가 없습니다.");
             }
@@ -78,9 +138,16 @@ public class RouteController {
      * @return ResponseEntity<?> - 해당 경로 데이터를 반환
      */
     @GetMapping("/data")
-    public ResponseEntity<?> getPostData(@AuthenticationPrincipal String email, @RequestParam("id") Long id) {
+    public ResponseEntity<?> getPostData(@AuthenticationPrincipal String email, @RequestParam("id") Long id,
+            WebRequest request) {
         try {
-            RouteHeadDto route = routeService.getRoute(id);
+            // 경로가 바뀌지 않았으면 304 (Not Modified)
+            String etag = routeService.getRouteETag(id);
+            if (etag != null && request.checkNotModified(etag)) {
+                return null;
+            }
+
+            RouteHeadDto route = routeService.getRoute(id, etag);
             if (route == null) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body("해당 ID의 경로를 찾을 수 없습니다.");
             }
@@ -91,22 +158,110 @@ public class RouteController {
     }
 
     /**
-     * 모든 경로 데이터를 조회하는 메서드
+     * 경로 상세 캐시의 적중률 등 통계를 조회하는 메서드
      *
-     * @param email - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
-     * @return ResponseEntity<?> - 모든 경로 데이터를 반환
+     * @return ResponseEntity<RouteCacheStatsDto> - 캐시 크기, 적중/미적중 횟수, 적중률
+     */
+    @GetMapping("/data/cache-stats")
+    public ResponseEntity<RouteCacheStatsDto> getDetailCacheStats() {
+        return ResponseEntity.ok(routeService.getDetailCacheStats());
+    }
+
+    /**
+     * 공개 경로 피드를 커서 기반으로 조회하는 메서드
+     *
+     * @param email       - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param cursor      - 이전 응답의 nextCursor 값 (첫 페이지는 생략)
+     * @param size        - 페이지 크기 (기본 20, 최대 50)
+     * @param view        - 응답 형태 (full: 전체 정보, summary: 목록 요약)
+     * @param town        - 지역 필터 (생략 시 전체 지역)
+     * @param tags        - 해시태그 필터 (tag=a&tag=b 또는 tag=a,b)
+     * @param tagMode     - 해시태그 조건 (any: 하나 이상 포함, all: 모두 포함, 그 외 값은 400)
+     * @param minDistance - 최소 총 거리 (포함)
+     * @param maxDistance - 최대 총 거리 (포함)
+     * @return ResponseEntity<?> - 경로 목록과 다음 페이지 커서를 반환
      */
     @GetMapping("/datas")
-    public ResponseEntity<?> getPostDatas(@AuthenticationPrincipal String email) {
+    public ResponseEntity<?> getPostDatas(@AuthenticationPrincipal String email,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "view", defaultValue = "full") String view,
+            @RequestParam(value = "town", required = false) String town,
+            @RequestParam(value = "tag", required = false) List<String> tags,
+            @RequestParam(value = "tagMode", defaultValue = "any") String tagMode,
+            @RequestParam(value = "minDistance", required = false) Long minDistance,
+            @RequestParam(value = "maxDistance", required = false) Long maxDistance) {
+        // 해시태그 조건은 any, all만 허용 (대소문자 구분 없음)
+        if (!"any".equalsIgnoreCase(tagMode) && !"all".equalsIgnoreCase(tagMode)) {
+            return ResponseEntity.badRequest().body("잘못된 해시태그 조건입니다. (tagMode: any, all)");
+        }
+
+        RouteFeedFilter filter = new RouteFeedFilter();
+        filter.setTown(town);
+        // 저장된 해시태그 이름과 같은 방식으로 정규화하고 중복 제거 (중복이 있으면 all 조건이 항상 실패함)
+        filter.setTags(tags == null ? null : HashtagResolver.normalizeAll(tags));
+        filter.setMatchAllTags("all".equalsIgnoreCase(tagMode));
+        filter.setMinDistance(minDistance);
+        filter.setMaxDistance(maxDistance);
+
         try {
-            List<RouteHeadDto> routes = routeService.getRoutes(email);
-            return ResponseEntity.ok(routes);
+            RouteFeedDto<?> feed = SUMMARY_VIEW.equals(view)
+                    ? routeService.getRouteSummaries(email, filter, cursor, size)
+                    : routeService.getRoutes(email, filter, cursor, size);
+            return ResponseEntity.ok(feed);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("잘못된 커서 값입니다.");
         } catch (Exception e) {
             System.out.println(e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("모든 경로 데이터를 조회 중 문제가 발생했습니다.");
         }
     }
 
+    /**
+     * 공개 경로를 인기(hot) 점수 순으로 조회하는 메서드
+     *
+     * 점수는 좋아요 수, 북마크 수와 작성 시각(시간 감쇠)으로 계산됩니다.
+     *
+     * @param email  - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param cursor - 이전 응답의 nextCursor 값 (첫 페이지는 생략)
+     * @param size   - 페이지 크기 (기본 20, 최대 50)
+     * @return ResponseEntity<?> - 경로 목록과 다음 페이지 커서를 반환
+     */
+    @GetMapping("/hot")
+    public ResponseEntity<?> getHotRoutes(@AuthenticationPrincipal String email,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(routeService.getHotRoutes(email, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("잘못된 커서 값입니다.");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("인기 경로 데이터를 조회 중 문제가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 코스 이름, 본문, 지역, 해시태그, 장소 이름으로 공개 경로를 검색하는 메서드
+     *
+     * @param email  - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param query  - 검색어
+     * @param cursor - 이전 응답의 nextCursor 값 (첫 페이지는 생략)
+     * @param size   - 페이지 크기 (기본 20, 최대 50)
+     * @return ResponseEntity<?> - 관련도 순 경로 목록과 다음 페이지 커서를 반환
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchRoutes(@AuthenticationPrincipal String email, @RequestParam("q") String query,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(routeService.searchRoutes(email, query, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("잘못된 커서 값입니다.");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("경로 검색 중 문제가 발생했습니다.");
+        }
+    }
+
     /**
      * 경로 정보를 수정하는 메서드
      *
@@ -135,9 +290,16 @@ public class RouteController {
      * @return ResponseEntity<?> - 수정 결과를 반환
      */
     @GetMapping("/like")
-    public ResponseEntity<?> routeGetLike(@AuthenticationPrincipal String email) {
+    public ResponseEntity<?> routeGetLike(@AuthenticationPrincipal String email,
+            @RequestParam(value = "view", defaultValue = "full") String view,
+            @RequestParam(value = "stream", defaultValue = "false") boolean stream) {
+        if (stream && !SUMMARY_VIEW.equals(view)) {
+            return streamRoutes(sink -> routeStreamService.streamLikes(email, sink));
+        }
+
         try {
-            List<RouteHeadDto> routes = routeService.routeGetLike(email);
+            List<?> routes = SUMMARY_VIEW.equals(view) ? routeService.routeGetLikeSummaries(email)
+                    : routeService.routeGetLike(email);
             return ResponseEntity.ok(routes);
         } catch (Exception e) {
             System.out.println(e);
@@ -147,14 +309,12 @@ public class RouteController {
 
     @PostMapping("/like")
     public ResponseEntity<?> routePostLike(@AuthenticationPrincipal String email, @RequestParam("id") Long id) {
-        routeService.routePostLike(email, id);
-        return ResponseEntity.ok("");
+        return ResponseEntity.ok(routeService.routePostLike(email, id));
     }
 
     @DeleteMapping("/like")
     public ResponseEntity<?> routeDeleteLike(@AuthenticationPrincipal String email, @RequestParam("id") Long id) {
-        routeService.routeDeleteLike(email, id);
-        return ResponseEntity.ok("");
+        return ResponseEntity.ok(routeService.routeDeleteLike(email, id));
     }
 
     @PutMapping("/update-public")
@@ -166,9 +326,16 @@ public class RouteController {
     }
 
     @GetMapping("/bookmark")
-    public ResponseEntity<?> routeGetBookmark(@AuthenticationPrincipal String email) {
+    public ResponseEntity<?> routeGetBookmark(@AuthenticationPrincipal String email,
+            @RequestParam(value = "view", defaultValue = "full") String view,
+            @RequestParam(value = "stream", defaultValue = "false") boolean stream) {
+        if (stream && !SUMMARY_VIEW.equals(view)) {
+            return streamRoutes(sink -> routeStreamService.streamBookmarks(email, sink));
+        }
+
         try {
-            List<RouteHeadDto> routes = routeService.routeGetBookmark(email);
+            List<?> routes = SUMMARY_VIEW.equals(view) ? routeService.routeGetBookmarkSummaries(email)
+                    : routeService.routeGetBookmark(email);
             return ResponseEntity.ok(routes);
         } catch (Exception e) {
             System.out.println(e);
@@ -178,13 +345,40 @@ public class RouteController {
 
     @PostMapping("/bookmark")
     public ResponseEntity<?> routePostBookmark(@AuthenticationPrincipal String email, @RequestParam("id") Long id) {
-        routeService.routePostBookmark(email, id);
-        return ResponseEntity.ok("");
+        return ResponseEntity.ok(routeService.routePostBookmark(email, id));
     }
 
     @DeleteMapping("/bookmark")
     public ResponseEntity<?> routeDeleteBookmark(@AuthenticationPrincipal String email, @RequestParam("id") Long id) {
-        routeService.routeDeleteBookmark(email, id);
-        return ResponseEntity.ok("");
+        return ResponseEntity.ok(routeService.routeDeleteBookmark(email, id));
+    }
+
+    /**
+     * 경로 목록을 JSON 배열로 스트리밍하는 응답을 만드는 메서드 (stream=true)
+     *
+     * 서비스가 넘겨주는 묶음을 받는 즉시 응답에 쓰고 내보내므로, 목록 전체를 메모리에 만들지 않습니다.
+     * 응답이 시작된 뒤에는 상태 코드를 바꿀 수 없으므로, 중간에 오류가 나면 연결이 끊어집니다.
+     *
+     * @param producer - 경로 묶음을 sink로 전달하는 RouteStreamService 메서드
+     * @return ResponseEntity<StreamingResponseBody> - 경로 목록 JSON 배열 (저장된 경로가 없으면 [])
+     */
+    private ResponseEntity<StreamingResponseBody> streamRoutes(Consumer<Consumer<List<RouteHeadDto>>> producer) {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                producer.accept(routes -> {
+                    try {
+                        for (RouteHeadDto route : routes) {
+                            generator.writeObject(route);
+                        }
+                        generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 }
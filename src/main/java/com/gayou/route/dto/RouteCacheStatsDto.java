@@ -0,0 +1,17 @@
+package com.gayou.route.dto;
+
+import lombok.Data;
+
+@Data
+public class RouteCacheStatsDto {
+    // 현재 캐시된 항목 수 (추정값)
+    private long size;
+    private long hitCount;
+    private long missCount;
+    // 적중률 (0.0 ~ 1.0, 조회가 없으면 1.0)
+    private double hitRate;
+    // 크기/TTL 초과로 제거된 항목 수 (명시적 무효화는 포함하지 않음)
+    private long evictionCount;
+    // 조립 중 예외가 발생한 횟수 (존재하지 않는 경로 조회 등)
+    private long loadFailureCount;
+}
@@ -0,0 +1,13 @@
+package com.gayou.route.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class RouteFeedDto<T> {
+    // RouteHeadDto 또는 RouteSummaryDto (view=summary)
+    private List<T> routes;
+    // 다음 페이지 조회용 커서 (마지막 페이지이면 null)
+    private String nextCursor;
+}
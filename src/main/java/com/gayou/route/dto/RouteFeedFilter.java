@@ -0,0 +1,30 @@
+package com.gayou.route.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class RouteFeedFilter {
+    // 지역 (정확히 일치)
+    private String town;
+    // 해시태그 이름 목록 (HashtagResolver.normalizeAll로 정규화, 중복 제거된 값)
+    private List<String> tags;
+    // true이면 모든 해시태그를 포함한 경로만, false이면 하나 이상 포함한 경로
+    private boolean matchAllTags;
+    // 총 거리 범위 (포함, null이면 제한 없음)
+    private Long minDistance;
+    private Long maxDistance;
+
+    public boolean hasTown() {
+        return town != null && !town.isBlank();
+    }
+
+    public boolean hasTags() {
+        return tags != null && !tags.isEmpty();
+    }
+
+    public boolean isEmpty() {
+        return !hasTown() && !hasTags() && minDistance == null && maxDistance == null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.gayou.route.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+// 방문 순서 최적화 결과
+@Data
+public class RouteOptimizeDto {
+    // 최적화된 방문 순서의 장소 contentid
+    private List<Integer> contentids;
+    // 최적화된 순서의 총 거리 (미터)
+    private Long totDistance;
+    // 요청한 순서 그대로 방문할 때의 총 거리 (미터)
+    private Long originalDistance;
+}
@@ -0,0 +1,14 @@
+package com.gayou.route.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+// 방문 순서 최적화 요청
+@Data
+public class RouteOptimizeRequestDto {
+    // 방문할 장소 contentid (fixStart/fixEnd가 true이면 첫 번째/마지막 장소가 출발지/도착지)
+    private List<Integer> contentids;
+    private boolean fixStart;
+    private boolean fixEnd;
+}
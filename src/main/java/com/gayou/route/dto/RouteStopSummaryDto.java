@@ -0,0 +1,24 @@
+package com.gayou.route.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 목록 화면용 경로 아이템 요약 (장소 제목, 대표 이미지, 좌표)
+ *
+ * JPQL 생성자 표현식으로 places 테이블에서 필요한 컬럼만 바로 읽어옵니다.
+ */
+@Data
+@AllArgsConstructor
+public class RouteStopSummaryDto {
+    @JsonIgnore
+    private Long routeHeadId;
+    private Long id;
+    private Integer contentid;
+    private String title;
+    private String firstimage;
+    private Double mapx;
+    private Double mapy;
+}
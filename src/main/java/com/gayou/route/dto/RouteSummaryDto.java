@@ -0,0 +1,51 @@
+package com.gayou.route.dto;
+
+import java.util.Date;
+import java.util.List;
+
+import com.gayou.auth.dto.UserDto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목록 화면용 경로 요약 (view=summary)
+ *
+ * RouteHeadDto에서 본문(content)과 장소 상세 정보를 뺀 형태입니다. 상세 정보는 /route/data로 조회합니다.
+ * 작성자는 ID와 이름만 담고 프로필 사진은 담지 않습니다.
+ */
+@Data
+@NoArgsConstructor
+public class RouteSummaryDto {
+    private Long id;
+    private UserDto userId;
+    private String town;
+    private String courseName;
+    private Long totDistance;
+    private Date createDate;
+    private Date updateDate;
+    private List<RouteStopSummaryDto> stops;
+    private List<String> tag;
+    private Long totlike;
+    private boolean isPublic;
+    private RouteBookmarkDto bookmark;
+    private RouteLikeDto like;
+
+    /**
+     * JPQL 생성자 표현식용 생성자 - route_head와 user에서 목록에 필요한 컬럼만 읽어옴
+     */
+    public RouteSummaryDto(Long id, Long authorId, String authorName, String town, String courseName,
+            Long totDistance, Date createDate, Date updateDate, Long totlike, boolean isPublic) {
+        this.id = id;
+        this.userId = new UserDto();
+        this.userId.setId(authorId);
+        this.userId.setName(authorName);
+        this.town = town;
+        this.courseName = courseName;
+        this.totDistance = totDistance;
+        this.createDate = createDate;
+        this.updateDate = updateDate;
+        this.totlike = totlike;
+        this.isPublic = isPublic;
+    }
+}
@@ -0,0 +1,14 @@
+package com.gayou.route.dto;
+
+import lombok.Data;
+
+// 좋아요/북마크 추가, 취소 후의 상태
+@Data
+public class RouteToggleDto {
+    // 사용자의 좋아요/북마크 ID (취소된 상태이면 null)
+    private Long id;
+    // 좋아요/북마크한 상태인지 여부
+    private boolean active;
+    // 경로의 좋아요/북마크 수
+    private Long count;
+}
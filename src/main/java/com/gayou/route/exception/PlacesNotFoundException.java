@@ -0,0 +1,18 @@
+package com.gayou.route.exception;
+
+import java.util.List;
+
+// 경로에 존재하지 않는 장소가 포함된 경우 (없는 contentid를 모두 담음)
+public class PlacesNotFoundException extends IllegalArgumentException {
+
+    private final List<Integer> contentids;
+
+    public PlacesNotFoundException(List<Integer> contentids) {
+        super("Places not found for contentid " + contentids);
+        this.contentids = contentids;
+    }
+
+    public List<Integer> getContentids() {
+        return contentids;
+    }
+}
@@ -16,6 +16,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -23,7 +24,9 @@ import lombok.Setter;
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "route_bookmark")
+// 같은 사용자가 같은 경로에 한 번만 남길 수 있음 (INSERT IGNORE로 중복 요청 무시)
+@Table(name = "route_bookmark", uniqueConstraints = @UniqueConstraint(name = "uk_route_bookmark_route_user", columnNames = {
+        "route_head_id", "user_id" }))
 public class RouteBookmark {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
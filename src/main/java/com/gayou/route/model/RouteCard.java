@@ -0,0 +1,66 @@
+package com.gayou.route.model;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 경로 목록 화면용 읽기 모델 (경로당 한 행)
+ *
+ * 목록에 필요한 경로 정보(경로 아이템, 장소, 해시태그 포함)를 JSON으로 미리 직렬화해 두고,
+ * 자주 바뀌는 값(공개 여부, 좋아요/북마크 수, 작성자 ID와 이름)은 별도 컬럼으로 관리합니다.
+ * RouteService의 쓰기 메서드가 같은 트랜잭션 안에서 함께 갱신합니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+@Table(name = "route_card", indexes = {
+        @Index(name = "idx_route_card_feed", columnList = "is_public, create_date, route_head_id"),
+        // 지역별 피드 - 한 지역을 조회할 때 해당 지역의 행만 읽도록 town을 앞에 둠
+        @Index(name = "idx_route_card_town_feed", columnList = "town, is_public, create_date, route_head_id"),
+        @Index(name = "idx_route_card_user", columnList = "user_id")
+})
+public class RouteCard {
+    @Id
+    @Column(name = "route_head_id")
+    private Long routeHeadId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 작성자 프로필 사진은 복사하지 않고 응답 시 userId로 조회 (RouteCardService.toDtos)
+    private String authorName;
+
+    private String town;
+
+    private Long totDistance;
+
+    private boolean isPublic;
+
+    private Date createDate;
+
+    // 좋아요/북마크 수는 RouteEngagementCounter만 증감분으로 갱신 (카드 저장 시 덮어쓰지 않음)
+    @Column(updatable = false)
+    private Long totlike = 0L;
+
+    @Column(updatable = false)
+    private long likeCount;
+
+    @Column(updatable = false)
+    private long bookmarkCount;
+
+    // 작성자, 북마크/좋아요 정보를 제외한 RouteHeadDto JSON
+    @Lob
+    @Column(columnDefinition = "LONGTEXT")
+    private String payload;
+}
@@ -11,6 +11,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -20,7 +21,8 @@ import lombok.Setter;
 @Entity
 @Getter
 @Setter
-@Table(name = "route_hashtags")
+// 해시태그 필터용 - 해시태그 ID로 경로 ID를 테이블 접근 없이 찾음
+@Table(name = "route_hashtags", indexes = @Index(name = "idx_route_hashtags_tag_route", columnList = "hashtag_id, route_head_id"))
 public class RouteHashtags {
 
     @Id
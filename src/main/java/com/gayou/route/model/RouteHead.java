@@ -17,9 +17,12 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -31,6 +34,8 @@ import lombok.Setter;
 @Setter
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
+// 공개 피드의 (createDate, id) 키셋 페이지네이션용 복합 인덱스
+@Table(name = "route_head", indexes = @Index(name = "idx_route_head_feed", columnList = "is_public, create_date, id"))
 public class RouteHead {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -54,14 +59,18 @@ public class RouteHead {
     private Date updateDate;
 
     @OneToMany(mappedBy = "routeHead", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id ASC")
     private List<RouteItem> data;
 
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // RouteEngagementCounter만 증감분으로 갱신 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(updatable = false)
     private Long totlike = 0L;
 
     @OneToMany(mappedBy = "routeHead", cascade = CascadeType.ALL)
+    @OrderBy("orderNumber ASC, id ASC")
     private List<RouteHashtags> routeHashtags;
 
     private boolean isPublic;
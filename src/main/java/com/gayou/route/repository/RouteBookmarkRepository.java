@@ -2,14 +2,48 @@ package com.gayou.route.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.gayou.auth.model.User;
 import com.gayou.route.model.RouteBookmark;
-import com.gayou.route.model.RouteHead;
 
 public interface RouteBookmarkRepository extends JpaRepository<RouteBookmark, Long> {
-    RouteBookmark findByRouteHeadAndUser(RouteHead routeHead, User user);
+    // 이미 북마크한 경우 (route_head_id, user_id) 유니크 제약에 걸려 무시됨 - 추가된 행 수 반환
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO route_bookmark (route_head_id, user_id, create_date, update_date) "
+            + "VALUES (:routeHeadId, :userId, NOW(), NOW())", nativeQuery = true)
+    int insertIgnore(@Param("routeHeadId") Long routeHeadId, @Param("userId") Long userId);
 
-    List<RouteBookmark> findAllByUser(User user);
+    @Modifying
+    @Query("DELETE FROM RouteBookmark b WHERE b.routeHead.id = :routeHeadId AND b.user.id = :userId")
+    int deleteByRouteHeadIdAndUserId(@Param("routeHeadId") Long routeHeadId, @Param("userId") Long userId);
+
+    // 토글 응답용 - 경로의 북마크 수와 사용자의 북마크 ID (경로가 없으면 빈 목록)
+    @Query("SELECT c.bookmarkCount, (SELECT b.id FROM RouteBookmark b WHERE b.routeHead.id = r.id AND b.user.id = :userId) "
+            + "FROM RouteHead r LEFT JOIN RouteCard c ON c.routeHeadId = r.id WHERE r.id = :routeHeadId")
+    List<Object[]> findToggleState(@Param("routeHeadId") Long routeHeadId, @Param("userId") Long userId);
+
+    long countByRouteHeadId(Long routeHeadId);
+
+    // 경로와 작성자를 함께 조회하여 목록 변환 시 추가 쿼리가 발생하지 않도록 함
+    @Query("SELECT b FROM RouteBookmark b JOIN FETCH b.routeHead h JOIN FETCH h.user WHERE b.user = :user ORDER BY b.id")
+    List<RouteBookmark> findAllWithRouteByUser(@Param("user") User user);
+
+    // 목록 요약용 - 사용자의 북마크를 ID 순으로 (북마크 ID, 경로 ID) 쌍으로만 조회
+    @Query("SELECT b.id, b.routeHead.id FROM RouteBookmark b WHERE b.user.id = :userId ORDER BY b.id")
+    List<Object[]> findIdsAndRouteHeadIdsByUserId(@Param("userId") Long userId);
+
+    // 스트리밍 응답용 - afterId 이후의 북마크를 경로, 작성자와 함께 한 묶음씩 조회
+    @Query("SELECT b FROM RouteBookmark b JOIN FETCH b.routeHead h JOIN FETCH h.user "
+            + "WHERE b.user.id = :userId AND b.id > :afterId ORDER BY b.id")
+    List<RouteBookmark> findWithRouteByUserIdAfter(@Param("userId") Long userId, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    // 사용자의 모든 북마크의 (경로 ID, 북마크 ID) 쌍 조회 (RouteMembershipCache 적재용)
+    @Query("SELECT b.routeHead.id, b.id FROM RouteBookmark b WHERE b.user.id = :userId")
+    List<Object[]> findRouteHeadIdsAndIdsByUserId(@Param("userId") Long userId);
 }
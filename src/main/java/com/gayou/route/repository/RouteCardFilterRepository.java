@@ -0,0 +1,26 @@
+package com.gayou.route.repository;
+
+import java.util.Date;
+import java.util.List;
+
+import com.gayou.route.dto.RouteFeedFilter;
+import com.gayou.route.model.RouteCard;
+
+/**
+ * 조건(지역, 해시태그, 거리)이 바뀌는 공개 피드 조회용 RouteCardRepository 확장
+ */
+public interface RouteCardFilterRepository {
+
+    /**
+     * 필터 조건에 맞는 공개 경로 카드를 (createDate, routeHeadId) 내림차순으로 조회하는 메서드
+     *
+     * @param userId          - 제외할 작성자 ID (현재 사용자)
+     * @param filter          - 필터 조건 (비어 있으면 전체 공개 피드)
+     * @param afterCreateDate - 이전 페이지 마지막 카드의 작성 시각 (첫 페이지는 null)
+     * @param afterId         - 이전 페이지 마지막 카드의 경로 ID (첫 페이지는 null)
+     * @param limit           - 최대 조회 건수
+     * @return 조건에 맞는 경로 카드 목록
+     */
+    List<RouteCard> findPublicFeed(Long userId, RouteFeedFilter filter, Date afterCreateDate, Long afterId,
+            int limit);
+}
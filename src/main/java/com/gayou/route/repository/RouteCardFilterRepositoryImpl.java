@@ -0,0 +1,76 @@
+package com.gayou.route.repository;
+
+import java.util.Date;
+import java.util.List;
+
+import com.gayou.route.dto.RouteFeedFilter;
+import com.gayou.route.model.RouteCard;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * 필터 조건에 따라 JPQL을 조립하는 RouteCardFilterRepository 구현
+ *
+ * 지역이 주어지면 idx_route_card_town_feed(town, is_public, create_date, route_head_id)를,
+ * 아니면 idx_route_card_feed를 따라 정렬된 순서대로 읽고 limit에서 멈춥니다.
+ * 해시태그 조건은 idx_route_hashtags_tag_route(hashtag_id, route_head_id)를 쓰는 서브쿼리로 거릅니다.
+ */
+public class RouteCardFilterRepositoryImpl implements RouteCardFilterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<RouteCard> findPublicFeed(Long userId, RouteFeedFilter filter, Date afterCreateDate, Long afterId,
+            int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT c FROM RouteCard c WHERE c.isPublic = true AND c.userId <> :userId");
+        if (filter.hasTown()) {
+            jpql.append(" AND c.town = :town");
+        }
+        if (filter.getMinDistance() != null) {
+            jpql.append(" AND c.totDistance >= :minDistance");
+        }
+        if (filter.getMaxDistance() != null) {
+            jpql.append(" AND c.totDistance <= :maxDistance");
+        }
+        if (filter.hasTags()) {
+            jpql.append(" AND c.routeHeadId IN (SELECT rh.routeHead.id FROM RouteHashtags rh"
+                    + " WHERE rh.hashtag.tagName IN :tags");
+            if (filter.isMatchAllTags()) {
+                jpql.append(" GROUP BY rh.routeHead.id HAVING COUNT(DISTINCT rh.hashtag.id) = :tagCount");
+            }
+            jpql.append(")");
+        }
+        if (afterId != null) {
+            jpql.append(" AND (c.createDate < :createDate OR (c.createDate = :createDate AND c.routeHeadId < :id))");
+        }
+        jpql.append(" ORDER BY c.createDate DESC, c.routeHeadId DESC");
+
+        TypedQuery<RouteCard> query = entityManager.createQuery(jpql.toString(), RouteCard.class)
+                .setParameter("userId", userId)
+                .setMaxResults(limit);
+        if (filter.hasTown()) {
+            query.setParameter("town", filter.getTown());
+        }
+        if (filter.getMinDistance() != null) {
+            query.setParameter("minDistance", filter.getMinDistance());
+        }
+        if (filter.getMaxDistance() != null) {
+            query.setParameter("maxDistance", filter.getMaxDistance());
+        }
+        if (filter.hasTags()) {
+            List<String> tags = filter.getTags();
+            query.setParameter("tags", tags);
+            if (filter.isMatchAllTags()) {
+                query.setParameter("tagCount", (long) tags.size());
+            }
+        }
+        if (afterId != null) {
+            query.setParameter("createDate", afterCreateDate);
+            query.setParameter("id", afterId);
+        }
+        return query.getResultList();
+    }
+}
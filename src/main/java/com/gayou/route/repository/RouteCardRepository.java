@@ -0,0 +1,52 @@
+package com.gayou.route.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.gayou.route.model.RouteCard;
+
+@Repository
+public interface RouteCardRepository extends JpaRepository<RouteCard, Long>, RouteCardFilterRepository {
+
+    // 카드가 없거나 필터 컬럼(town)이 채워지기 전에 만들어진 경로 ID 조회 (기존 데이터 백필용)
+    @Query("SELECT r.id FROM RouteHead r WHERE NOT EXISTS "
+            + "(SELECT c.routeHeadId FROM RouteCard c WHERE c.routeHeadId = r.id AND c.town IS NOT NULL) ORDER BY r.id")
+    List<Long> findRouteHeadIdsWithoutCard(Pageable pageable);
+
+    // 인기 점수 계산용 (routeHeadId, userId, createDate, totlike, bookmarkCount, isPublic) - 영속성 컨텍스트를 거치지 않음
+    @Query("SELECT c.routeHeadId, c.userId, c.createDate, c.totlike, c.bookmarkCount, c.isPublic FROM RouteCard c "
+            + "WHERE c.routeHeadId = :routeHeadId")
+    List<Object[]> findHotScoreInputsByRouteHeadId(@Param("routeHeadId") Long routeHeadId);
+
+    @Query("SELECT c.routeHeadId, c.userId, c.createDate, c.totlike, c.bookmarkCount, c.isPublic FROM RouteCard c "
+            + "WHERE c.isPublic = true")
+    List<Object[]> findHotScoreInputsOfPublicCards();
+
+    // 검색 색인용 (isPublic, payload) - 영속성 컨텍스트를 거치지 않음
+    @Query("SELECT c.isPublic, c.payload FROM RouteCard c WHERE c.routeHeadId = :routeHeadId")
+    List<Object[]> findSearchSourceByRouteHeadId(@Param("routeHeadId") Long routeHeadId);
+
+    // 검색 전체 재색인용 (routeHeadId, payload) - afterId 이후의 공개 카드를 ID 순으로 한 묶음씩, 엔티티를 만들지 않고 조회
+    @Query("SELECT c.routeHeadId, c.payload FROM RouteCard c WHERE c.isPublic = true AND c.routeHeadId > :afterId "
+            + "ORDER BY c.routeHeadId")
+    List<Object[]> findPublicSearchSourcesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE RouteCard c SET c.isPublic = :isPublic WHERE c.routeHeadId = :routeHeadId")
+    int updatePublic(@Param("routeHeadId") Long routeHeadId, @Param("isPublic") boolean isPublic);
+
+    // 프로필 변경 시 작성자의 모든 카드의 작성자 이름을 한 번에 갱신
+    @Modifying
+    @Query("UPDATE RouteCard c SET c.authorName = :name WHERE c.userId = :userId")
+    int updateAuthorName(@Param("userId") Long userId, @Param("name") String name);
+
+    @Modifying
+    @Query("DELETE FROM RouteCard c WHERE c.routeHeadId = :routeHeadId")
+    int deleteByRouteHeadId(@Param("routeHeadId") Long routeHeadId);
+}
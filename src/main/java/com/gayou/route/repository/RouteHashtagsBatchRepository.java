@@ -0,0 +1,18 @@
+package com.gayou.route.repository;
+
+import java.util.List;
+
+/**
+ * 경로-해시태그 연결을 JDBC 배치로 추가하는 RouteHashtagsRepository 확장
+ */
+public interface RouteHashtagsBatchRepository {
+
+    /**
+     * 경로에 해시태그 연결을 한 번의 배치로 추가하는 메서드
+     *
+     * @param routeHeadId  - 경로 ID
+     * @param hashtagIds   - 추가할 해시태그 ID 목록
+     * @param orderNumbers - 해시태그별 순서 (hashtagIds와 같은 순서)
+     */
+    void insertAll(Long routeHeadId, List<Long> hashtagIds, List<Integer> orderNumbers);
+}
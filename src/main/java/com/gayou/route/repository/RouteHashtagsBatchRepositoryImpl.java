@@ -0,0 +1,37 @@
+package com.gayou.route.repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * RouteHashtagsBatchRepository 구현
+ *
+ * route_hashtags.id가 IDENTITY라 Hibernate는 INSERT를 배치로 묶지 못하므로 JdbcTemplate.batchUpdate를 사용합니다.
+ * MySQL 드라이버의 rewriteBatchedStatements 옵션과 함께 쓰면 여러 행 INSERT 한 문장으로 전송됩니다.
+ * 영속성 컨텍스트를 거치지 않으므로 필요한 경우 호출 측에서 추가된 행을 다시 조회해야 합니다.
+ */
+public class RouteHashtagsBatchRepositoryImpl implements RouteHashtagsBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RouteHashtagsBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(Long routeHeadId, List<Long> hashtagIds, List<Integer> orderNumbers) {
+        if (hashtagIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> rows = new ArrayList<>(hashtagIds.size());
+        for (int i = 0; i < hashtagIds.size(); i++) {
+            rows.add(new Object[] { routeHeadId, hashtagIds.get(i), orderNumbers.get(i), now, now });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO route_hashtags "
+                + "(route_head_id, hashtag_id, order_number, create_date, update_date) VALUES (?, ?, ?, ?, ?)", rows);
+    }
+}
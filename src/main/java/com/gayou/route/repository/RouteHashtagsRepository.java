@@ -1,10 +1,31 @@
 package com.gayou.route.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.gayou.route.model.RouteHashtags;
 
-public interface RouteHashtagsRepository extends JpaRepository<RouteHashtags, Long> {
+public interface RouteHashtagsRepository extends JpaRepository<RouteHashtags, Long>, RouteHashtagsBatchRepository {
+
+    // 경로에서 빠진 해시태그 연결을 한 문장으로 삭제 (엔티티를 읽지 않음)
+    @Modifying
+    @Query("DELETE FROM RouteHashtags rh WHERE rh.routeHead.id = :routeHeadId AND rh.hashtag.id IN :hashtagIds")
+    int deleteByRouteHeadIdAndHashtagIdIn(@Param("routeHeadId") Long routeHeadId,
+            @Param("hashtagIds") Collection<Long> hashtagIds);
+
+    // 배치로 추가한 연결을 해시태그와 함께 다시 조회
+    @Query("SELECT rh FROM RouteHashtags rh JOIN FETCH rh.hashtag "
+            + "WHERE rh.routeHead.id = :routeHeadId AND rh.hashtag.id IN :hashtagIds ORDER BY rh.orderNumber, rh.id")
+    List<RouteHashtags> findWithHashtagByRouteHeadIdAndHashtagIdIn(@Param("routeHeadId") Long routeHeadId,
+            @Param("hashtagIds") Collection<Long> hashtagIds);
 
-    void deleteByRouteHeadId(Long routeHeadId);
+    // 경로별 해시태그 이름을 (경로 ID, 해시태그 이름) 쌍으로 조회
+    @Query("SELECT rh.routeHead.id, h.tagName FROM RouteHashtags rh JOIN rh.hashtag h "
+            + "WHERE rh.routeHead.id IN :routeHeadIds ORDER BY rh.orderNumber, rh.id")
+    List<Object[]> findTagNamesByRouteHeadIdIn(@Param("routeHeadIds") Collection<Long> routeHeadIds);
 }
@@ -1,12 +1,18 @@
 package com.gayou.route.repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.gayou.route.dto.RouteSummaryDto;
 import com.gayou.route.model.RouteHead;
 
 @Repository
@@ -15,5 +21,66 @@ public interface RouteHeadRepository extends JpaRepository<RouteHead, Long> {
 
     Optional<RouteHead> findById(Long id);
 
-    List<RouteHead> findByIsPublicAndUserIdNot(boolean isPublic, Long userId, Sort sort);
+    // 공개 피드 첫 페이지 (createDate, id 내림차순)
+    @Query("SELECT r FROM RouteHead r JOIN FETCH r.user WHERE r.isPublic = true AND r.user.id <> :userId "
+            + "ORDER BY r.createDate DESC, r.id DESC")
+    List<RouteHead> findPublicFeed(@Param("userId") Long userId, Pageable pageable);
+
+    // 공개 피드 다음 페이지 - 커서 (createDate, id) 이후의 경로만 조회
+    @Query("SELECT r FROM RouteHead r JOIN FETCH r.user WHERE r.isPublic = true AND r.user.id <> :userId "
+            + "AND (r.createDate < :createDate OR (r.createDate = :createDate AND r.id < :id)) "
+            + "ORDER BY r.createDate DESC, r.id DESC")
+    List<RouteHead> findPublicFeedAfter(@Param("userId") Long userId, @Param("createDate") Date createDate,
+            @Param("id") Long id, Pageable pageable);
+
+    // 목록 요약용 - 본문(content)과 작성자 프로필 사진을 읽지 않도록 필요한 컬럼만 조회
+    String SUMMARY_SELECT = "SELECT new com.gayou.route.dto.RouteSummaryDto(r.id, u.id, u.name, r.town, "
+            + "r.courseName, r.totDistance, r.createDate, r.updateDate, r.totlike, r.isPublic) "
+            + "FROM RouteHead r JOIN r.user u ";
+
+    // 공개 피드 첫 페이지 요약 (view=summary)
+    @Query(SUMMARY_SELECT + "WHERE r.isPublic = true AND u.id <> :userId ORDER BY r.createDate DESC, r.id DESC")
+    List<RouteSummaryDto> findPublicFeedSummaries(@Param("userId") Long userId, Pageable pageable);
+
+    // 공개 피드 다음 페이지 요약 (view=summary)
+    @Query(SUMMARY_SELECT + "WHERE r.isPublic = true AND u.id <> :userId "
+            + "AND (r.createDate < :createDate OR (r.createDate = :createDate AND r.id < :id)) "
+            + "ORDER BY r.createDate DESC, r.id DESC")
+    List<RouteSummaryDto> findPublicFeedSummariesAfter(@Param("userId") Long userId,
+            @Param("createDate") Date createDate, @Param("id") Long id, Pageable pageable);
+
+    // 사용자의 경로 요약 목록 (ID 내림차순)
+    @Query(SUMMARY_SELECT + "WHERE u.id = :userId ORDER BY r.id DESC")
+    List<RouteSummaryDto> findSummariesByUserId(@Param("userId") Long userId);
+
+    // ID 목록으로 경로 요약 조회 (순서는 호출하는 쪽에서 맞춤)
+    @Query(SUMMARY_SELECT + "WHERE r.id IN :ids")
+    List<RouteSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 경로 상세 ETag용 - 경로 수정 시각, 경로에 포함된 장소의 최신 갱신 시각, 좋아요 수 (DTO를 조립하지 않음)
+    @Query("SELECT r.updateDate, MAX(p.lastUpdated), r.totlike FROM RouteHead r LEFT JOIN r.data i "
+            + "LEFT JOIN i.place p WHERE r.id = :id GROUP BY r.id, r.updateDate, r.totlike")
+    List<Object[]> findDetailVersion(@Param("id") Long id);
+
+    // 내 경로 목록 ETag용 - 경로 수, 최대 ID, 최신 수정 시각, 좋아요 합계
+    @Query("SELECT COUNT(r), MAX(r.id), MAX(r.updateDate), SUM(r.totlike) FROM RouteHead r "
+            + "WHERE r.user.email = :email")
+    List<Object[]> findListVersionByUserEmail(@Param("email") String email);
+
+    // 스트리밍 응답용 - beforeId 이전의 내 경로를 ID 내림차순으로 한 묶음씩 조회
+    @Query("SELECT r FROM RouteHead r WHERE r.user.id = :userId AND r.id < :beforeId ORDER BY r.id DESC")
+    List<RouteHead> findByUserIdBefore(@Param("userId") Long userId, @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
+    // ID 목록으로 경로와 작성자를 함께 조회
+    @Query("SELECT r FROM RouteHead r JOIN FETCH r.user WHERE r.id IN :ids")
+    List<RouteHead> findWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 경로 아이템과 장소를 한 번의 쿼리로 초기화 (RouteGraphLoader 참고)
+    @Query("SELECT r FROM RouteHead r LEFT JOIN FETCH r.data d LEFT JOIN FETCH d.place WHERE r.id IN :ids")
+    List<RouteHead> findWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 경로 해시태그와 해시태그 이름을 한 번의 쿼리로 초기화 (RouteGraphLoader 참고)
+    @Query("SELECT r FROM RouteHead r LEFT JOIN FETCH r.routeHashtags rh LEFT JOIN FETCH rh.hashtag WHERE r.id IN :ids")
+    List<RouteHead> findWithHashtagsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,17 @@
+package com.gayou.route.repository;
+
+import java.util.List;
+
+/**
+ * 경로 아이템을 JDBC 배치로 추가하는 RouteItemRepository 확장
+ */
+public interface RouteItemBatchRepository {
+
+    /**
+     * 경로에 경로 아이템을 한 번의 배치로 추가하는 메서드
+     *
+     * @param routeHeadId - 경로 ID
+     * @param contentids  - 경로 순서대로의 장소 contentid 목록 (존재하는 장소여야 함)
+     */
+    void insertAll(Long routeHeadId, List<Integer> contentids);
+}
@@ -0,0 +1,33 @@
+package com.gayou.route.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * RouteItemBatchRepository 구현
+ *
+ * route_item.id가 IDENTITY라 Hibernate는 INSERT를 배치로 묶지 못하므로 JdbcTemplate.batchUpdate를 사용합니다.
+ * rewriteBatchedStatements 옵션으로 여러 행 INSERT 한 문장이 되며, 행 순서대로 증가하는 ID가 부여되므로
+ * 경로 아이템의 순서(id ASC)가 유지됩니다.
+ */
+public class RouteItemBatchRepositoryImpl implements RouteItemBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RouteItemBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(Long routeHeadId, List<Integer> contentids) {
+        if (contentids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO route_item (head_id, contentid) VALUES (?, ?)", contentids,
+                contentids.size(), (statement, contentid) -> {
+                    statement.setLong(1, routeHeadId);
+                    statement.setInt(2, contentid);
+                });
+    }
+}
@@ -1,10 +1,35 @@
 package com.gayou.route.repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.gayou.route.dto.RouteStopSummaryDto;
 import com.gayou.route.model.RouteItem;
 
 @Repository
-public interface RouteItemRepository extends JpaRepository<RouteItem, Long> {
+public interface RouteItemRepository extends JpaRepository<RouteItem, Long>, RouteItemBatchRepository {
+
+    // 목록 요약용 - Places 엔티티를 만들지 않고 제목, 대표 이미지, 좌표 컬럼만 조회
+    @Query("SELECT new com.gayou.route.dto.RouteStopSummaryDto(i.routeHead.id, i.id, p.contentid, p.title, "
+            + "p.firstimage, p.mapx, p.mapy) FROM RouteItem i JOIN i.place p "
+            + "WHERE i.routeHead.id IN :routeHeadIds ORDER BY i.id")
+    List<RouteStopSummaryDto> findStopSummariesByRouteHeadIdIn(@Param("routeHeadIds") Collection<Long> routeHeadIds);
+
+    // 내 경로 목록 ETag용 - 사용자의 경로에 포함된 장소의 최신 갱신 시각
+    @Query("SELECT MAX(p.lastUpdated) FROM RouteItem i JOIN i.place p WHERE i.routeHead.user.email = :email")
+    Date findLatestPlaceUpdateByUserEmail(@Param("email") String email);
+
+    // 장소 정보가 바뀐 경우 카드를 다시 만들 경로
+    @Query("SELECT DISTINCT i.routeHead.id FROM RouteItem i WHERE i.place.contentid IN :contentids")
+    List<Long> findRouteHeadIdsByPlaceContentidIn(@Param("contentids") Collection<Integer> contentids);
+
+    // 배치로 추가한 경로 아이템을 경로 순서대로 다시 조회
+    @Query("SELECT i FROM RouteItem i WHERE i.routeHead.id = :routeHeadId ORDER BY i.id")
+    List<RouteItem> findByRouteHeadIdOrderById(@Param("routeHeadId") Long routeHeadId);
 }
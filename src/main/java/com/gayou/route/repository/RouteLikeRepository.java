@@ -2,14 +2,48 @@ package com.gayou.route.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.gayou.auth.model.User;
 import com.gayou.route.model.RouteLike;
-import com.gayou.route.model.RouteHead;
 
 public interface RouteLikeRepository extends JpaRepository<RouteLike, Long> {
-    RouteLike findByRouteHeadAndUser(RouteHead routeHead, User user);
+    // 이미 좋아요한 경우 (route_head_id, user_id) 유니크 제약에 걸려 무시됨 - 추가된 행 수 반환
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO route_like (route_head_id, user_id, create_date, update_date) "
+            + "VALUES (:routeHeadId, :userId, NOW(), NOW())", nativeQuery = true)
+    int insertIgnore(@Param("routeHeadId") Long routeHeadId, @Param("userId") Long userId);
 
-    List<RouteLike> findAllByUser(User user);
+    @Modifying
+    @Query("DELETE FROM RouteLike l WHERE l.routeHead.id = :routeHeadId AND l.user.id = :userId")
+    int deleteByRouteHeadIdAndUserId(@Param("routeHeadId") Long routeHeadId, @Param("userId") Long userId);
+
+    // 토글 응답용 - 경로의 좋아요 수와 사용자의 좋아요 ID (경로가 없으면 빈 목록)
+    @Query("SELECT r.totlike, (SELECT l.id FROM RouteLike l WHERE l.routeHead.id = r.id AND l.user.id = :userId) "
+            + "FROM RouteHead r WHERE r.id = :routeHeadId")
+    List<Object[]> findToggleState(@Param("routeHeadId") Long routeHeadId, @Param("userId") Long userId);
+
+    long countByRouteHeadId(Long routeHeadId);
+
+    // 경로와 작성자를 함께 조회하여 목록 변환 시 추가 쿼리가 발생하지 않도록 함
+    @Query("SELECT l FROM RouteLike l JOIN FETCH l.routeHead h JOIN FETCH h.user WHERE l.user = :user ORDER BY l.id")
+    List<RouteLike> findAllWithRouteByUser(@Param("user") User user);
+
+    // 목록 요약용 - 사용자의 좋아요를 ID 순으로 (좋아요 ID, 경로 ID) 쌍으로만 조회
+    @Query("SELECT l.id, l.routeHead.id FROM RouteLike l WHERE l.user.id = :userId ORDER BY l.id")
+    List<Object[]> findIdsAndRouteHeadIdsByUserId(@Param("userId") Long userId);
+
+    // 스트리밍 응답용 - afterId 이후의 좋아요를 경로, 작성자와 함께 한 묶음씩 조회
+    @Query("SELECT l FROM RouteLike l JOIN FETCH l.routeHead h JOIN FETCH h.user "
+            + "WHERE l.user.id = :userId AND l.id > :afterId ORDER BY l.id")
+    List<RouteLike> findWithRouteByUserIdAfter(@Param("userId") Long userId, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    // 사용자의 모든 좋아요의 (경로 ID, 좋아요 ID) 쌍 조회 (RouteMembershipCache 적재용)
+    @Query("SELECT l.routeHead.id, l.id FROM RouteLike l WHERE l.user.id = :userId")
+    List<Object[]> findRouteHeadIdsAndIdsByUserId(@Param("userId") Long userId);
 }
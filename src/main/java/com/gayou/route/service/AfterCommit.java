@@ -0,0 +1,29 @@
+package com.gayou.route.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 인덱스/캐시 갱신을 현재 트랜잭션 커밋 이후로 미루는 유틸리티
+ *
+ * 트랜잭션 밖에서 호출되면 바로 실행하며, 롤백되면 실행하지 않습니다.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
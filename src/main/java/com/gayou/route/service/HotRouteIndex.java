@@ -0,0 +1,207 @@
+package com.gayou.route.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.gayou.route.repository.RouteCardRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 공개 경로의 인기(hot) 점수 순위를 메모리에 유지하는 인덱스
+ *
+ * 점수 = ln(1 + totlike + BOOKMARK_WEIGHT * bookmarkCount) + createDate(초) / decaySeconds
+ *
+ * 참여도를 e^(경과 시간 / decaySeconds)로 나누는 시간 감쇠를 로그 영역에서 계산한 것으로,
+ * 현재 시각이 모든 경로에 같은 값만큼 빠지므로 시간이 흘러도 순서가 바뀌지 않습니다.
+ * 따라서 좋아요/북마크/공개 여부 변경 시 해당 경로 하나만 다시 계산하면 되고,
+ * 주기적인 재계산은 route_card 기준으로 전체를 다시 맞추는 용도(누락된 이벤트, 다른 인스턴스의 변경)로만 사용합니다.
+ * 상위 N개 조회는 정렬된 skip list를 앞에서부터 읽으므로 O(log n + N)입니다.
+ */
+@Component
+public class HotRouteIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(HotRouteIndex.class);
+
+    // 북마크 1개를 좋아요 몇 개로 볼지
+    private static final double BOOKMARK_WEIGHT = 2.0;
+
+    private static final Comparator<Entry> HOT_ORDER = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::routeHeadId).reversed());
+
+    private final RouteCardRepository routeCardRepository;
+    private final double decaySeconds;
+    private final long rebuildIntervalMinutes;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hot-route-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Ranking ranking = new Ranking();
+    // 전체 재계산 중에 변경된 경로 ID (교체 후 다시 반영)
+    private volatile Set<Long> changedDuringRebuild;
+
+    public HotRouteIndex(RouteCardRepository routeCardRepository,
+            @Value("${route.hot.decay-hours}") double decayHours,
+            @Value("${route.hot.rebuild-interval-minutes}") long rebuildIntervalMinutes) {
+        this.routeCardRepository = routeCardRepository;
+        this.decaySeconds = decayHours * 3600;
+        this.rebuildIntervalMinutes = rebuildIntervalMinutes;
+    }
+
+    // 인덱스 항목 (점수, 경로 ID, 작성자 ID)
+    private record Entry(double score, long routeHeadId, long userId) {
+    }
+
+    private static class Ranking {
+        private final NavigableSet<Entry> order = new ConcurrentSkipListSet<>(HOT_ORDER);
+        private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+
+        private void put(Entry entry) {
+            byId.compute(entry.routeHeadId(), (id, previous) -> {
+                if (previous != null) {
+                    order.remove(previous);
+                }
+                order.add(entry);
+                return entry;
+            });
+        }
+
+        private void remove(Long routeHeadId) {
+            byId.computeIfPresent(routeHeadId, (id, previous) -> {
+                order.remove(previous);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 인기 피드 한 페이지 분량의 경로 ID를 가져오는 메서드
+     *
+     * @param excludeUserId - 제외할 작성자 ID (현재 사용자)
+     * @param after         - 이전 페이지의 마지막 위치 (첫 페이지는 null)
+     * @param size          - 페이지 크기
+     * @return 점수 내림차순 경로 ID 목록과 다음 페이지 커서
+     */
+    public HotRoutePage page(Long excludeUserId, HotRouteCursor after, int size) {
+        NavigableSet<Entry> order = ranking.order;
+        NavigableSet<Entry> candidates = after == null ? order
+                : order.tailSet(new Entry(after.getScore(), after.getId(), 0L), false);
+
+        List<Long> routeHeadIds = new ArrayList<>();
+        Entry last = null;
+        for (Entry entry : candidates) {
+            if (entry.userId() == excludeUserId) {
+                continue;
+            }
+            if (routeHeadIds.size() == size) {
+                return new HotRoutePage(routeHeadIds, new HotRouteCursor(last.score(), last.routeHeadId()).encode());
+            }
+            routeHeadIds.add(entry.routeHeadId());
+            last = entry;
+        }
+        return new HotRoutePage(routeHeadIds, null);
+    }
+
+    public record HotRoutePage(List<Long> routeHeadIds, String nextCursor) {
+    }
+
+    /**
+     * 경로의 점수를 현재 트랜잭션이 커밋된 뒤 route_card 기준으로 다시 계산하는 메서드
+     *
+     * 트랜잭션 밖에서 호출되면 바로 반영합니다. 롤백되면 아무것도 바꾸지 않습니다.
+     *
+     * @param routeHeadId - 점수를 다시 계산할 경로 ID
+     */
+    public void refreshAfterCommit(Long routeHeadId) {
+        AfterCommit.run(() -> refresh(routeHeadId));
+    }
+
+    private void refresh(Long routeHeadId) {
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(routeHeadId);
+        }
+
+        try {
+            List<Object[]> rows = routeCardRepository.findHotScoreInputsByRouteHeadId(routeHeadId);
+            if (rows.isEmpty() || !(Boolean) rows.get(0)[5]) {
+                ranking.remove(routeHeadId);
+            } else {
+                ranking.put(toEntry(rows.get(0)));
+            }
+        } catch (RuntimeException e) {
+            // 커밋은 이미 끝났으므로 요청을 실패시키지 않고 다음 전체 재계산에 맡김
+            log.warn("Failed to refresh hot score of route {}", routeHeadId, e);
+        }
+    }
+
+    /**
+     * route_card의 공개 경로 전체로 인덱스를 새로 만들어 교체하는 메서드
+     */
+    public void rebuild() {
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+        try {
+            Ranking rebuilt = new Ranking();
+            for (Object[] row : routeCardRepository.findHotScoreInputsOfPublicCards()) {
+                rebuilt.put(toEntry(row));
+            }
+            ranking = rebuilt;
+        } finally {
+            changedDuringRebuild = null;
+        }
+
+        // 재계산용 조회 이후에 커밋된 변경이 이전 인덱스에만 반영되었을 수 있으므로 다시 반영
+        changed.forEach(this::refresh);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Hot route index rebuild failed", e);
+            }
+        }, 0, rebuildIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    // (routeHeadId, userId, createDate, totlike, bookmarkCount, isPublic) 행으로 점수 계산
+    private Entry toEntry(Object[] row) {
+        Long routeHeadId = (Long) row[0];
+        Long userId = (Long) row[1];
+        Date createDate = (Date) row[2];
+        Long totlike = (Long) row[3];
+        long bookmarkCount = (Long) row[4];
+
+        double engagement = Math.max(0, totlike == null ? 0 : totlike) + BOOKMARK_WEIGHT * Math.max(0, bookmarkCount);
+        double createSeconds = createDate == null ? 0 : createDate.getTime() / 1000.0;
+        return new Entry(Math.log1p(engagement) + createSeconds / decaySeconds, routeHeadId, userId);
+    }
+}
@@ -0,0 +1,247 @@
+package com.gayou.route.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gayou.auth.dto.UserDto;
+import com.gayou.auth.model.User;
+import com.gayou.auth.repository.UserRepository;
+import com.gayou.places.service.PlacesChangedEvent;
+import com.gayou.route.dto.RouteHeadDto;
+import com.gayou.route.model.RouteCard;
+import com.gayou.route.model.RouteHead;
+import com.gayou.route.repository.RouteBookmarkRepository;
+import com.gayou.route.repository.RouteCardRepository;
+import com.gayou.route.repository.RouteHeadRepository;
+import com.gayou.route.repository.RouteItemRepository;
+import com.gayou.route.repository.RouteLikeRepository;
+
+/**
+ * 경로 카드(route_card) 읽기 모델을 관리하는 서비스
+ *
+ * 피드 조회 시 route_head, route_item, places, route_hashtags, hashtag, user를 매번 조인하지 않도록
+ * 목록에 필요한 정보를 경로당 한 행으로 미리 만들어 둡니다. 쓰기 메서드는 모두 호출 측 트랜잭션에 참여합니다.
+ */
+@Service
+public class RouteCardService {
+
+    private static final Logger log = LoggerFactory.getLogger(RouteCardService.class);
+
+    // 시작 시 카드가 없는 기존 경로를 한 번에 몇 개씩 채울지
+    private static final int BACKFILL_CHUNK_SIZE = 100;
+
+    // 정보가 바뀐 장소를 포함한 경로를 한 번에 몇 개의 contentid로 찾을지
+    private static final int PLACE_LOOKUP_CHUNK_SIZE = 1000;
+
+    private final RouteCardRepository routeCardRepository;
+    private final RouteHeadRepository routeHeadRepository;
+    private final RouteLikeRepository routeLikeRepository;
+    private final RouteBookmarkRepository routeBookmarkRepository;
+    private final RouteGraphLoader routeGraphLoader;
+    private final RouteHeadAssembler routeHeadAssembler;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final HotRouteIndex hotRouteIndex;
+    private final RouteSearchIndex routeSearchIndex;
+    private final RouteEngagementCounter routeEngagementCounter;
+    private final UserRepository userRepository;
+    private final RouteItemRepository routeItemRepository;
+
+    public RouteCardService(RouteCardRepository routeCardRepository, RouteHeadRepository routeHeadRepository,
+            RouteLikeRepository routeLikeRepository, RouteBookmarkRepository routeBookmarkRepository,
+            RouteGraphLoader routeGraphLoader, RouteHeadAssembler routeHeadAssembler, ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate, HotRouteIndex hotRouteIndex, RouteSearchIndex routeSearchIndex,
+            RouteEngagementCounter routeEngagementCounter, UserRepository userRepository,
+            RouteItemRepository routeItemRepository) {
+        this.routeCardRepository = routeCardRepository;
+        this.routeHeadRepository = routeHeadRepository;
+        this.routeLikeRepository = routeLikeRepository;
+        this.routeBookmarkRepository = routeBookmarkRepository;
+        this.routeGraphLoader = routeGraphLoader;
+        this.routeHeadAssembler = routeHeadAssembler;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.hotRouteIndex = hotRouteIndex;
+        this.routeSearchIndex = routeSearchIndex;
+        this.routeEngagementCounter = routeEngagementCounter;
+        this.userRepository = userRepository;
+        this.routeItemRepository = routeItemRepository;
+    }
+
+    /**
+     * 경로의 카드를 새로 만들거나 현재 경로 정보로 다시 직렬화하는 메서드
+     *
+     * @param head - 경로 아이템, 해시태그, 작성자가 채워진 경로 헤드 (영속 상태)
+     */
+    public void refresh(RouteHead head) {
+        RouteCard card = routeCardRepository.findById(head.getId()).orElse(null);
+        if (card == null) {
+            card = new RouteCard();
+            card.setRouteHeadId(head.getId());
+            card.setLikeCount(routeLikeRepository.countByRouteHeadId(head.getId()));
+            card.setBookmarkCount(routeBookmarkRepository.countByRouteHeadId(head.getId()));
+        }
+
+        User author = head.getUser();
+        card.setUserId(author.getId());
+        card.setAuthorName(author.getName());
+        card.setTown(head.getTown());
+        card.setTotDistance(head.getTotDistance());
+        card.setPublic(head.isPublic());
+        card.setCreateDate(head.getCreateDate());
+        card.setTotlike(head.getTotlike());
+        card.setPayload(serialize(routeHeadAssembler.toDto(head)));
+        routeCardRepository.save(card);
+        hotRouteIndex.refreshAfterCommit(head.getId());
+        routeSearchIndex.refreshAfterCommit(head.getId());
+    }
+
+    public void updatePublic(Long routeHeadId, boolean isPublic) {
+        routeCardRepository.updatePublic(routeHeadId, isPublic);
+        hotRouteIndex.refreshAfterCommit(routeHeadId);
+        routeSearchIndex.refreshAfterCommit(routeHeadId);
+    }
+
+    public void delete(Long routeHeadId) {
+        routeCardRepository.deleteByRouteHeadId(routeHeadId);
+        hotRouteIndex.refreshAfterCommit(routeHeadId);
+        routeSearchIndex.refreshAfterCommit(routeHeadId);
+    }
+
+    /**
+     * 카드 목록을 응답용 RouteHeadDto 목록으로 변환하는 메서드
+     *
+     * 직렬화된 경로 정보에 컬럼으로 관리되는 작성자, 공개 여부, 좋아요 수(반영 전 증감분 포함)를 덮어씁니다.
+     * 작성자 프로필 사진은 카드에 복사하지 않으므로 목록에 나오는 작성자들의 사진을 한 번의 쿼리로 조회합니다.
+     *
+     * @param cards - 변환할 경로 카드 목록
+     * @return 작성자 정보가 포함된 RouteHeadDto 목록 (북마크/좋아요 상태는 호출 측에서 설정)
+     */
+    public List<RouteHeadDto> toDtos(List<RouteCard> cards) {
+        Map<Long, String> pictures = new HashMap<>();
+        Set<Long> authorIds = cards.stream().map(RouteCard::getUserId).collect(Collectors.toSet());
+        if (!authorIds.isEmpty()) {
+            for (Object[] row : userRepository.findProfilePicturesByIdIn(authorIds)) {
+                pictures.put((Long) row[0], (String) row[1]);
+            }
+        }
+
+        List<RouteHeadDto> routeHeadDtoList = new ArrayList<>();
+        for (RouteCard card : cards) {
+            RouteHeadDto routeHeadDto = deserialize(card.getPayload());
+
+            UserDto author = new UserDto();
+            author.setId(card.getUserId());
+            author.setName(card.getAuthorName());
+            author.setProfilePicture(pictures.get(card.getUserId()));
+            routeHeadDto.setUserId(author);
+            routeHeadDto.setPublic(card.isPublic());
+            routeHeadDto.setTotlike(
+                    routeEngagementCounter.withPendingLikes(card.getRouteHeadId(), card.getTotlike()));
+            routeHeadDtoList.add(routeHeadDto);
+        }
+        return routeHeadDtoList;
+    }
+
+    /**
+     * 카드가 없는 기존 경로의 카드를 애플리케이션 시작 시 채워 넣는 메서드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void backfillMissingCards() {
+        try {
+            int filled = 0;
+            List<Long> chunk;
+            do {
+                chunk = transactionTemplate.execute(status -> {
+                    List<Long> ids = routeCardRepository
+                            .findRouteHeadIdsWithoutCard(PageRequest.of(0, BACKFILL_CHUNK_SIZE));
+                    List<RouteHead> heads = routeHeadRepository.findWithUserByIdIn(ids);
+                    routeGraphLoader.initialize(heads);
+                    heads.forEach(this::refresh);
+                    return ids;
+                });
+                if (chunk == null) {
+                    chunk = Collections.emptyList();
+                }
+                filled += chunk.size();
+            } while (chunk.size() == BACKFILL_CHUNK_SIZE);
+
+            if (filled > 0) {
+                log.info("Backfilled {} route cards", filled);
+            }
+        } catch (RuntimeException e) {
+            log.error("Route card backfill failed", e);
+        }
+    }
+
+    /**
+     * 장소 적재로 정보가 바뀐 장소를 포함한 경로의 카드를 다시 직렬화하는 메서드
+     *
+     * 카드에는 장소 제목, 주소, 이미지 등이 복사되어 있으므로 적재가 끝난 뒤 해당 경로의 카드를 다시 만듭니다.
+     * 적재 작업 스레드에서 호출되며, 경로 BACKFILL_CHUNK_SIZE개마다 따로 커밋합니다.
+     *
+     * @param event - 정보가 바뀐 장소의 contentid
+     */
+    @EventListener
+    public void refreshCardsOfChangedPlaces(PlacesChangedEvent event) {
+        try {
+            List<Integer> contentids = new ArrayList<>(event.contentids());
+            Set<Long> routeHeadIds = new LinkedHashSet<>();
+            for (int from = 0; from < contentids.size(); from += PLACE_LOOKUP_CHUNK_SIZE) {
+                List<Integer> chunk = contentids.subList(from,
+                        Math.min(from + PLACE_LOOKUP_CHUNK_SIZE, contentids.size()));
+                routeHeadIds.addAll(routeItemRepository.findRouteHeadIdsByPlaceContentidIn(chunk));
+            }
+
+            List<Long> ids = new ArrayList<>(routeHeadIds);
+            for (int from = 0; from < ids.size(); from += BACKFILL_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + BACKFILL_CHUNK_SIZE, ids.size()));
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<RouteHead> heads = routeHeadRepository.findWithUserByIdIn(chunk);
+                    routeGraphLoader.initialize(heads);
+                    heads.forEach(this::refresh);
+                });
+            }
+
+            if (!ids.isEmpty()) {
+                log.info("Refreshed {} route cards for {} changed places", ids.size(), contentids.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("Route card refresh for changed places failed", e);
+        }
+    }
+
+    private String serialize(RouteHeadDto routeHeadDto) {
+        try {
+            return objectMapper.writeValueAsString(routeHeadDto);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize route card " + routeHeadDto.getId(), e);
+        }
+    }
+
+    private RouteHeadDto deserialize(String payload) {
+        try {
+            return objectMapper.readValue(payload, RouteHeadDto.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to read route card payload", e);
+        }
+    }
+}
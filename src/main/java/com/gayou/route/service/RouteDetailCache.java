@@ -0,0 +1,72 @@
+package com.gayou.route.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.gayou.route.dto.RouteCacheStatsDto;
+import com.gayou.route.dto.RouteHeadDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * 경로 상세(GET /route/data) 응답 캐시
+ *
+ * 공유 링크로 같은 경로가 반복 조회될 때 경로 그래프를 매번 다시 조립하지 않도록 routeHeadId별로 보관합니다.
+ * 경로를 수정하는 메서드가 evict를 호출하며, 장소 정보 변경처럼 경로 밖에서 생기는 변경은 TTL로 반영됩니다.
+ * 반환된 RouteHeadDto는 여러 응답이 함께 참조하므로 절대 수정하면 안 됩니다.
+ */
+@Component
+public class RouteDetailCache {
+
+    private final Cache<Long, RouteHeadDto> details;
+
+    public RouteDetailCache(@Value("${route.detail-cache.max-size}") long maxSize,
+            @Value("${route.detail-cache.ttl-minutes}") long ttlMinutes) {
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 경로 상세를 반환하고, 없으면 loader로 조립하여 저장하는 메서드
+     *
+     * @param routeHeadId - 조회할 경로 ID
+     * @param loader      - 캐시에 없을 때 경로 상세를 조립하는 함수 (예외 발생 시 캐시하지 않음)
+     * @return 읽기 전용으로 공유되는 RouteHeadDto
+     */
+    public RouteHeadDto get(Long routeHeadId, Function<Long, RouteHeadDto> loader) {
+        return details.get(routeHeadId, loader);
+    }
+
+    /**
+     * 경로 상세 캐시를 무효화하는 메서드
+     *
+     * 트랜잭션 안에서 호출되면 커밋 직후에 한 번 더 무효화하여,
+     * 커밋 전에 다른 요청이 이전 데이터로 다시 채운 항목도 제거합니다.
+     *
+     * @param routeHeadId - 무효화할 경로 ID
+     */
+    public void evict(Long routeHeadId) {
+        details.invalidate(routeHeadId);
+        AfterCommit.run(() -> details.invalidate(routeHeadId));
+    }
+
+    public RouteCacheStatsDto stats() {
+        CacheStats stats = details.stats();
+
+        RouteCacheStatsDto statsDto = new RouteCacheStatsDto();
+        statsDto.setSize(details.estimatedSize());
+        statsDto.setHitCount(stats.hitCount());
+        statsDto.setMissCount(stats.missCount());
+        statsDto.setHitRate(stats.hitRate());
+        statsDto.setEvictionCount(stats.evictionCount());
+        statsDto.setLoadFailureCount(stats.loadFailureCount());
+        return statsDto;
+    }
+}
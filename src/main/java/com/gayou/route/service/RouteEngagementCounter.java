@@ -0,0 +1,278 @@
+package com.gayou.route.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 경로 좋아요 수(totlike)와 북마크 수를 서버에서 관리하는 카운터
+ *
+ * 좋아요/북마크 저장과 삭제는 커밋 후 메모리의 증감분에만 더해지고, 주기적으로 경로별 합계를
+ * UPDATE ... SET totlike = totlike + ? 배치로 route_head와 route_card에 반영합니다.
+ * 증감분은 스레드별로 나뉜 구역(stripe)에 쌓이므로 한 경로에 좋아요가 몰려도 같은 락이나 행을 두고 경합하지 않습니다.
+ * 조회 시에는 DB 값에 반영 전 증감분을 더한 값을 사용합니다 (withPendingLikes, withPendingBookmarks).
+ * 비정상 종료로 잃어버린 증감분은 시작 시 실제 행 수로 다시 맞춥니다 (reconcile).
+ */
+@Component
+public class RouteEngagementCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(RouteEngagementCounter.class);
+
+    // 증감분 배열의 위치
+    private static final int LIKES = 0;
+    private static final int BOOKMARKS = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final HotRouteIndex hotRouteIndex;
+    private final RouteDetailCache routeDetailCache;
+    private final RouteEngagementDuplicateRemover routeEngagementDuplicateRemover;
+    private final long flushIntervalSeconds;
+    private final Stripe[] stripes;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "route-engagement-counter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // DB에 반영 중인 증감분 (커밋 전까지 조회에 포함 - 커밋 직후, 캐시 무효화보다 먼저 비움)
+    private volatile Map<Long, long[]> flushing = Collections.emptyMap();
+
+    public RouteEngagementCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            HotRouteIndex hotRouteIndex, RouteDetailCache routeDetailCache,
+            RouteEngagementDuplicateRemover routeEngagementDuplicateRemover,
+            @Value("${route.counter.flush-interval-seconds}") long flushIntervalSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.hotRouteIndex = hotRouteIndex;
+        this.routeDetailCache = routeDetailCache;
+        this.routeEngagementDuplicateRemover = routeEngagementDuplicateRemover;
+        this.flushIntervalSeconds = flushIntervalSeconds;
+
+        // 코어 수 이상의 2의 거듭제곱 개로 나누어 스레드 ID로 구역 선택
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    // 경로 ID -> 반영 전 {좋아요, 북마크} 증감분
+    private static final class Stripe {
+        private Map<Long, long[]> deltas = new HashMap<>();
+    }
+
+    /**
+     * 좋아요 증감분을 더하는 메서드 (좋아요 저장/삭제가 커밋된 뒤 호출)
+     *
+     * @param routeHeadId - 경로 ID
+     * @param delta       - 증감분 (좋아요 1, 좋아요 취소 -1)
+     */
+    public void addLike(Long routeHeadId, long delta) {
+        add(routeHeadId, LIKES, delta);
+    }
+
+    /**
+     * 북마크 증감분을 더하는 메서드 (북마크 저장/삭제가 커밋된 뒤 호출)
+     *
+     * @param routeHeadId - 경로 ID
+     * @param delta       - 증감분 (북마크 1, 북마크 취소 -1)
+     */
+    public void addBookmark(Long routeHeadId, long delta) {
+        add(routeHeadId, BOOKMARKS, delta);
+    }
+
+    /**
+     * DB에 저장된 좋아요 수에 반영 전 증감분을 더하는 메서드
+     *
+     * @param routeHeadId - 경로 ID
+     * @param persisted   - route_head 또는 route_card의 totlike
+     * @return 응답에 사용할 좋아요 수
+     */
+    public Long withPendingLikes(Long routeHeadId, Long persisted) {
+        return withPending(routeHeadId, LIKES, persisted);
+    }
+
+    /**
+     * DB에 저장된 북마크 수에 반영 전 증감분을 더하는 메서드
+     *
+     * @param routeHeadId - 경로 ID
+     * @param persisted   - route_card의 bookmark_count
+     * @return 응답에 사용할 북마크 수
+     */
+    public Long withPendingBookmarks(Long routeHeadId, Long persisted) {
+        return withPending(routeHeadId, BOOKMARKS, persisted);
+    }
+
+    private void add(Long routeHeadId, int kind, long delta) {
+        Stripe stripe = stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+        synchronized (stripe) {
+            stripe.deltas.computeIfAbsent(routeHeadId, key -> new long[2])[kind] += delta;
+        }
+    }
+
+    private Long withPending(Long routeHeadId, int kind, Long persisted) {
+        if (routeHeadId == null) {
+            return persisted;
+        }
+        long sum = persisted == null ? 0 : persisted;
+        long[] inFlight = flushing.get(routeHeadId);
+        if (inFlight != null) {
+            sum += inFlight[kind];
+        }
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                long[] deltas = stripe.deltas.get(routeHeadId);
+                if (deltas != null) {
+                    sum += deltas[kind];
+                }
+            }
+        }
+        return Math.max(0, sum);
+    }
+
+    /**
+     * 쌓인 증감분을 한 트랜잭션의 배치 UPDATE로 DB에 반영하는 메서드
+     *
+     * 실패하면 증감분을 다시 쌓아 다음 주기에 재시도합니다.
+     * 반영 중인 증감분은 커밋 직후 가장 먼저 비우므로, 커밋된 DB 값에 같은 증감분이 한 번 더 더해져 조회되지 않습니다.
+     */
+    public synchronized void flush() {
+        Map<Long, long[]> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<Long, long[]> deltas;
+            synchronized (stripe) {
+                deltas = stripe.deltas;
+                stripe.deltas = new HashMap<>();
+            }
+            deltas.forEach((routeHeadId, delta) -> {
+                long[] total = drained.computeIfAbsent(routeHeadId, key -> new long[2]);
+                total[LIKES] += delta[LIKES];
+                total[BOOKMARKS] += delta[BOOKMARKS];
+            });
+        }
+        drained.values().removeIf(delta -> delta[LIKES] == 0 && delta[BOOKMARKS] == 0);
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        flushing = drained;
+        AtomicBoolean committed = new AtomicBoolean();
+        try {
+            List<Object[]> headRows = new ArrayList<>(drained.size());
+            List<Object[]> cardRows = new ArrayList<>(drained.size());
+            drained.forEach((routeHeadId, delta) -> {
+                if (delta[LIKES] != 0) {
+                    headRows.add(new Object[] { delta[LIKES], routeHeadId });
+                }
+                cardRows.add(new Object[] { delta[LIKES], delta[LIKES], delta[BOOKMARKS], routeHeadId });
+            });
+
+            transactionTemplate.executeWithoutResult(status -> {
+                // 캐시 무효화 콜백보다 먼저 등록해 커밋 직후 DB 값과 증감분이 함께 더해지는 구간을 없앰
+                AfterCommit.run(() -> {
+                    committed.set(true);
+                    flushing = Collections.emptyMap();
+                });
+                jdbcTemplate.batchUpdate("UPDATE route_head SET totlike = COALESCE(totlike, 0) + ? WHERE id = ?",
+                        headRows);
+                jdbcTemplate.batchUpdate("UPDATE route_card SET totlike = COALESCE(totlike, 0) + ?, "
+                        + "like_count = like_count + ?, bookmark_count = bookmark_count + ? WHERE route_head_id = ?",
+                        cardRows);
+                for (Long routeHeadId : drained.keySet()) {
+                    hotRouteIndex.refreshAfterCommit(routeHeadId);
+                    routeDetailCache.evict(routeHeadId);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 커밋 전에 실패한 경우에만 증감분을 다시 쌓음 (커밋 후 콜백의 실패는 이미 반영된 값)
+            if (!committed.get()) {
+                flushing = Collections.emptyMap();
+                drained.forEach((routeHeadId, delta) -> {
+                    add(routeHeadId, LIKES, delta[LIKES]);
+                    add(routeHeadId, BOOKMARKS, delta[BOOKMARKS]);
+                });
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * route_head.totlike와 route_card의 좋아요/북마크 수를 route_like, route_bookmark의 실제 행 수로 다시 맞추는 메서드
+     *
+     * 반영 전 증감분은 메모리에만 있으므로 프로세스가 비정상 종료되면 사라지고 저장된 수가 실제 행 수와 어긋납니다.
+     * 시작 시 경로 카드 백필(@Order(1))과 인기 점수 재계산보다 먼저 한 번 실행하며, 값이 다른 행만 갱신합니다.
+     * 먼저 쌓인 증감분을 반영한 뒤 같은 락 안에서 다시 세므로 그 사이의 좋아요/북마크가 두 번 더해지지 않습니다.
+     * 세기 전에 (경로, 사용자) 중복 행을 지우고 유니크 제약을 추가합니다 (RouteEngagementDuplicateRemover).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public synchronized void reconcile() {
+        routeEngagementDuplicateRemover.removeDuplicates();
+        try {
+            flush();
+            int[] updated = transactionTemplate.execute(status -> new int[] {
+                    jdbcTemplate.update("UPDATE route_head r LEFT JOIN "
+                            + "(SELECT route_head_id, COUNT(*) AS cnt FROM route_like GROUP BY route_head_id) l "
+                            + "ON l.route_head_id = r.id SET r.totlike = COALESCE(l.cnt, 0) "
+                            + "WHERE NOT (r.totlike <=> COALESCE(l.cnt, 0))"),
+                    jdbcTemplate.update("UPDATE route_card c LEFT JOIN "
+                            + "(SELECT route_head_id, COUNT(*) AS cnt FROM route_like GROUP BY route_head_id) l "
+                            + "ON l.route_head_id = c.route_head_id LEFT JOIN "
+                            + "(SELECT route_head_id, COUNT(*) AS cnt FROM route_bookmark GROUP BY route_head_id) b "
+                            + "ON b.route_head_id = c.route_head_id "
+                            + "SET c.totlike = COALESCE(l.cnt, 0), c.like_count = COALESCE(l.cnt, 0), "
+                            + "c.bookmark_count = COALESCE(b.cnt, 0) "
+                            + "WHERE NOT (c.totlike <=> COALESCE(l.cnt, 0)) OR c.like_count <> COALESCE(l.cnt, 0) "
+                            + "OR c.bookmark_count <> COALESCE(b.cnt, 0)") });
+            if (updated != null && (updated[0] > 0 || updated[1] > 0)) {
+                log.info("Reconciled engagement counts of {} routes and {} route cards", updated[0], updated[1]);
+            }
+        } catch (RuntimeException e) {
+            log.error("Route engagement count reconciliation failed", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("Route engagement counter flush failed", e);
+            }
+        }, flushIntervalSeconds, flushIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(flushIntervalSeconds, TimeUnit.SECONDS);
+            // 종료 전에 남은 증감분 반영
+            flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Route engagement counter final flush failed", e);
+        }
+    }
+}
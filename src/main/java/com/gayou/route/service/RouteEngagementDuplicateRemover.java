@@ -0,0 +1,58 @@
+package com.gayou.route.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 좋아요/북마크 테이블의 (경로, 사용자) 중복 행을 지우고 유니크 제약을 추가하는 시작 단계
+ *
+ * uk_route_like_route_user, uk_route_bookmark_route_user는 ddl-auto=update로 추가되지만,
+ * 토글이 멱등해지기 전에 쌓인 중복 행이 있으면 추가에 실패하고 INSERT IGNORE가 중복을 막지 못합니다.
+ * 제약이 없는 테이블만 (경로, 사용자)별로 ID가 가장 작은 행을 남기고 나머지를 삭제한 뒤 제약을 추가합니다.
+ * 제약이 이미 있으면 information_schema 조회 한 번 외에는 아무것도 하지 않습니다.
+ * 수가 바뀌므로 RouteEngagementCounter.reconcile이 다시 세기 전에 호출합니다.
+ */
+@Component
+public class RouteEngagementDuplicateRemover {
+
+    private static final Logger log = LoggerFactory.getLogger(RouteEngagementDuplicateRemover.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public RouteEngagementDuplicateRemover(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public void removeDuplicates() {
+        removeDuplicates("route_like", "uk_route_like_route_user");
+        removeDuplicates("route_bookmark", "uk_route_bookmark_route_user");
+    }
+
+    private void removeDuplicates(String table, String uniqueKey) {
+        try {
+            Integer keys = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics "
+                    + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?", Integer.class, table,
+                    uniqueKey);
+            if (keys != null && keys > 0) {
+                return;
+            }
+
+            Integer removed = transactionTemplate.execute(status -> jdbcTemplate.update("DELETE FROM " + table
+                    + " WHERE id NOT IN (SELECT id FROM (SELECT MIN(id) AS id FROM " + table
+                    + " GROUP BY route_head_id, user_id) kept)"));
+            if (removed != null && removed > 0) {
+                log.info("Removed {} duplicate rows from {}", removed, table);
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + uniqueKey
+                    + " UNIQUE (route_head_id, user_id)");
+            log.info("Added unique key {} to {}", uniqueKey, table);
+        } catch (RuntimeException e) {
+            log.error("Duplicate removal for {} failed", table, e);
+        }
+    }
+}
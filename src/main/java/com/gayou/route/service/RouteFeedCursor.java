@@ -0,0 +1,54 @@
+package com.gayou.route.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import lombok.Getter;
+
+/**
+ * 공개 피드 키셋 페이지네이션 커서
+ *
+ * 마지막으로 내려준 경로의 (createDate, id)를 담으며, 클라이언트에는 Base64 URL 문자열로 전달됩니다.
+ * 클라이언트는 값을 해석하지 않고 그대로 돌려주기만 하면 됩니다.
+ */
+@Getter
+public class RouteFeedCursor {
+
+    private final Date createDate;
+    private final Long id;
+
+    public RouteFeedCursor(Date createDate, Long id) {
+        this.createDate = createDate;
+        this.id = id;
+    }
+
+    /**
+     * 커서를 불투명한 토큰 문자열로 변환하는 메서드
+     *
+     * @return Base64 URL 인코딩된 커서 토큰
+     */
+    public String encode() {
+        String raw = createDate.getTime() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 토큰을 커서로 복원하는 메서드
+     *
+     * @param token - encode()로 만들어진 커서 토큰
+     * @return 복원된 커서
+     * @throws IllegalArgumentException - 토큰 형식이 올바르지 않은 경우
+     */
+    public static RouteFeedCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            long createDate = Long.parseLong(raw.substring(0, separator));
+            long id = Long.parseLong(raw.substring(separator + 1));
+            return new RouteFeedCursor(new Date(createDate), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid feed cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.gayou.route.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.gayou.route.dto.RouteStopSummaryDto;
+import com.gayou.route.model.RouteHead;
+import com.gayou.route.repository.RouteHashtagsRepository;
+import com.gayou.route.repository.RouteHeadRepository;
+import com.gayou.route.repository.RouteItemRepository;
+
+/**
+ * 경로 목록의 연관 데이터를 고정된 횟수의 쿼리로 불러오는 컴포넌트
+ *
+ * RouteHead의 경로 아이템(장소 포함)과 해시태그를 지연 로딩으로 순회하면 경로마다 SELECT가 발생합니다(N+1).
+ * 작성자는 목록 조회 쿼리에서 fetch join으로 함께 가져오고, 나머지 두 컬렉션은 여기서 IN 쿼리 두 번으로 초기화합니다.
+ * 두 List 컬렉션을 한 쿼리에서 함께 fetch join 할 수 없기 때문에 쿼리를 나누어 실행합니다.
+ * 목록 요약(view=summary)은 엔티티 대신 필요한 컬럼만 담은 프로젝션으로 조회합니다.
+ */
+@Component
+public class RouteGraphLoader {
+
+    private final RouteHeadRepository routeHeadRepository;
+    private final RouteItemRepository routeItemRepository;
+    private final RouteHashtagsRepository routeHashtagsRepository;
+
+    public RouteGraphLoader(RouteHeadRepository routeHeadRepository, RouteItemRepository routeItemRepository,
+            RouteHashtagsRepository routeHashtagsRepository) {
+        this.routeHeadRepository = routeHeadRepository;
+        this.routeItemRepository = routeItemRepository;
+        this.routeHashtagsRepository = routeHashtagsRepository;
+    }
+
+    /**
+     * 경로 헤드들의 경로 아이템, 장소, 해시태그 컬렉션을 초기화하는 메서드
+     *
+     * 같은 영속성 컨텍스트에 있는 엔티티의 컬렉션을 채우므로 호출 측 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param heads - 초기화할 경로 헤드 목록 (영속 상태)
+     */
+    public void initialize(Collection<RouteHead> heads) {
+        if (heads.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = heads.stream().map(RouteHead::getId).collect(Collectors.toList());
+        routeHeadRepository.findWithItemsByIdIn(ids);
+        routeHeadRepository.findWithHashtagsByIdIn(ids);
+    }
+
+    /**
+     * 목록 요약용 경로 아이템을 경로별로 묶어 조회하는 메서드
+     *
+     * 엔티티 대신 필요한 컬럼만 담은 프로젝션을 한 번의 쿼리로 가져옵니다.
+     *
+     * @param routeHeadIds - 조회할 경로 ID 목록
+     * @return 경로 ID별 경로 아이템 요약 목록 (아이템 ID 순)
+     */
+    public Map<Long, List<RouteStopSummaryDto>> loadStopSummaries(Collection<Long> routeHeadIds) {
+        if (routeHeadIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return routeItemRepository.findStopSummariesByRouteHeadIdIn(routeHeadIds).stream()
+                .collect(Collectors.groupingBy(RouteStopSummaryDto::getRouteHeadId));
+    }
+
+    /**
+     * 경로별 해시태그 이름을 한 번의 쿼리로 조회하는 메서드
+     *
+     * @param routeHeadIds - 조회할 경로 ID 목록
+     * @return 경로 ID별 해시태그 이름 목록
+     */
+    public Map<Long, List<String>> loadTagNames(Collection<Long> routeHeadIds) {
+        if (routeHeadIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, List<String>> tagNames = new HashMap<>();
+        for (Object[] row : routeHashtagsRepository.findTagNamesByRouteHeadIdIn(routeHeadIds)) {
+            tagNames.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((String) row[1]);
+        }
+        return tagNames;
+    }
+}
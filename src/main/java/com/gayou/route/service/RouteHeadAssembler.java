@@ -0,0 +1,116 @@
+package com.gayou.route.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.gayou.auth.dto.UserDto;
+import com.gayou.auth.model.User;
+import com.gayou.places.service.PlaceSnapshotCache;
+import com.gayou.route.dto.RouteHeadDto;
+import com.gayou.route.dto.RouteItemDto;
+import com.gayou.route.dto.RouteStopSummaryDto;
+import com.gayou.route.dto.RouteSummaryDto;
+import com.gayou.route.model.RouteHashtags;
+import com.gayou.route.model.RouteHead;
+import com.gayou.route.model.RouteItem;
+
+/**
+ * RouteHead 엔티티를 응답용 RouteHeadDto로 변환하는 컴포넌트
+ *
+ * 경로 아이템의 장소 정보는 PlaceSnapshotCache의 공유 스냅샷을 사용하고, 좋아요 수에는 RouteEngagementCounter의 반영 전 증감분을 더합니다.
+ * 연관 컬렉션은 호출 전에 RouteGraphLoader로 초기화해 두어야 추가 쿼리가 발생하지 않습니다.
+ */
+@Component
+public class RouteHeadAssembler {
+
+    private final PlaceSnapshotCache placeSnapshotCache;
+    private final RouteEngagementCounter routeEngagementCounter;
+
+    public RouteHeadAssembler(PlaceSnapshotCache placeSnapshotCache, RouteEngagementCounter routeEngagementCounter) {
+        this.placeSnapshotCache = placeSnapshotCache;
+        this.routeEngagementCounter = routeEngagementCounter;
+    }
+
+    /**
+     * 작성자 정보 없이 경로를 변환하는 메서드 (내 경로, 경로 상세)
+     *
+     * @param head - 변환할 경로 헤드
+     * @return 경로 정보, 해시태그, 경로 아이템이 채워진 RouteHeadDto
+     */
+    public RouteHeadDto toDto(RouteHead head) {
+        RouteHeadDto routeHeadDto = new RouteHeadDto();
+        routeHeadDto.setId(head.getId());
+        routeHeadDto.setTown(head.getTown());
+        routeHeadDto.setCourseName(head.getCourseName());
+        routeHeadDto.setTotDistance(head.getTotDistance());
+        routeHeadDto.setContent(head.getContent());
+        routeHeadDto.setTotlike(routeEngagementCounter.withPendingLikes(head.getId(), head.getTotlike()));
+        routeHeadDto.setCreateDate(head.getCreateDate());
+        routeHeadDto.setUpdateDate(head.getUpdateDate());
+        routeHeadDto.setPublic(head.isPublic());
+        routeHeadDto.setTag(toTagNames(head));
+        routeHeadDto.setData(toItemDtos(head.getData()));
+        return routeHeadDto;
+    }
+
+    /**
+     * 작성자 정보를 포함하여 경로를 변환하는 메서드 (피드, 북마크/좋아요 목록)
+     *
+     * @param head - 변환할 경로 헤드
+     * @return 작성자 정보까지 채워진 RouteHeadDto
+     */
+    public RouteHeadDto toDtoWithAuthor(RouteHead head) {
+        RouteHeadDto routeHeadDto = toDto(head);
+        routeHeadDto.setUserId(toAuthorDto(head.getUser()));
+        return routeHeadDto;
+    }
+
+    /**
+     * 프로젝션으로 조회한 경로 요약에 해시태그, 경로 아이템, 반영 전 좋아요 증감분을 채우는 메서드 (view=summary)
+     *
+     * @param row        - RouteHeadRepository의 요약 프로젝션으로 조회한 행
+     * @param tags       - RouteGraphLoader.loadTagNames로 조회한 해시태그 이름 목록
+     * @param stops      - RouteGraphLoader.loadStopSummaries로 조회한 경로 아이템 요약 목록
+     * @param withAuthor - 작성자 정보 포함 여부
+     * @return 본문과 장소 상세 정보가 빠진 RouteSummaryDto
+     */
+    public RouteSummaryDto toSummaryDto(RouteSummaryDto row, List<String> tags, List<RouteStopSummaryDto> stops,
+            boolean withAuthor) {
+        row.setTotlike(routeEngagementCounter.withPendingLikes(row.getId(), row.getTotlike()));
+        row.setTag(tags);
+        row.setStops(stops);
+        if (!withAuthor) {
+            row.setUserId(null);
+        }
+        return row;
+    }
+
+    private UserDto toAuthorDto(User routeUser) {
+        UserDto routeUserDto = new UserDto();
+        routeUserDto.setId(routeUser.getId());
+        routeUserDto.setProfilePicture(routeUser.getProfilePicture());
+        routeUserDto.setName(routeUser.getName());
+        return routeUserDto;
+    }
+
+    private List<String> toTagNames(RouteHead head) {
+        List<String> hashtagList = new ArrayList<>();
+        for (RouteHashtags routeHashtag : head.getRouteHashtags()) {
+            hashtagList.add(routeHashtag.getHashtag().getTagName());
+        }
+        return hashtagList;
+    }
+
+    private List<RouteItemDto> toItemDtos(List<RouteItem> routeItemList) {
+        List<RouteItemDto> dtoItemList = new ArrayList<>();
+        for (RouteItem item : routeItemList) {
+            RouteItemDto routeItemDto = new RouteItemDto();
+            routeItemDto.setId(item.getId());
+            routeItemDto.setContentid(placeSnapshotCache.get(item.getPlace()));
+            dtoItemList.add(routeItemDto);
+        }
+        return dtoItemList;
+    }
+}
@@ -0,0 +1,200 @@
+package com.gayou.route.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gayou.route.repository.RouteBookmarkRepository;
+import com.gayou.route.repository.RouteLikeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 사용자별로 좋아요/북마크한 경로 ID를 메모리에 보관하는 캐시
+ *
+ * 처음 조회할 때 사용자의 좋아요/북마크를 한 번에 읽어 경로 ID 순으로 정렬된 long 배열(과 같은 순서의 좋아요/북마크 ID 배열)로
+ * 만들어 두므로, 피드 카드마다 필요한 "내가 좋아요/북마크했는지" 확인은 이진 탐색만으로 끝납니다.
+ * 좋아요/북마크 저장/삭제가 커밋되면 캐시된 사용자의 배열을 새 배열로 교체하며, 캐시에 없는 사용자는 다음 조회 때 읽습니다.
+ * 전체 크기는 보관 중인 경로 ID 수 기준으로 제한합니다.
+ */
+@Component
+public class RouteMembershipCache {
+
+    private final RouteLikeRepository routeLikeRepository;
+    private final RouteBookmarkRepository routeBookmarkRepository;
+    private final TransactionTemplate loadTransaction;
+    private final Cache<Long, Membership> memberships;
+
+    public RouteMembershipCache(RouteLikeRepository routeLikeRepository,
+            RouteBookmarkRepository routeBookmarkRepository, PlatformTransactionManager transactionManager,
+            @Value("${route.membership-cache.max-entries}") long maxEntries) {
+        this.routeLikeRepository = routeLikeRepository;
+        this.routeBookmarkRepository = routeBookmarkRepository;
+        // 호출 측 트랜잭션의 이전 스냅샷이 아니라 적재 시점의 데이터를 읽도록 새 트랜잭션에서 적재
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.memberships = Caffeine.newBuilder()
+                .maximumWeight(maxEntries)
+                .weigher((Long userId, Membership membership) -> 1 + membership.likes.size()
+                        + membership.bookmarks.size())
+                .build();
+    }
+
+    // 한 사용자의 좋아요/북마크 목록 (교체만 되고 수정되지 않음)
+    private record Membership(IdSet likes, IdSet bookmarks) {
+    }
+
+    /**
+     * 경로 ID 오름차순 배열과 같은 순서의 좋아요/북마크 ID 배열
+     */
+    private static final class IdSet {
+
+        private static final IdSet EMPTY = new IdSet(new long[0], new long[0]);
+
+        private final long[] routeHeadIds;
+        private final long[] rowIds;
+
+        private IdSet(long[] routeHeadIds, long[] rowIds) {
+            this.routeHeadIds = routeHeadIds;
+            this.rowIds = rowIds;
+        }
+
+        // (경로 ID, 좋아요/북마크 ID) 행을 경로 ID 순으로 정렬된 배열로 변환 (같은 경로가 여러 번이면 먼저 나온 행 사용)
+        static IdSet of(List<Object[]> rows) {
+            long[][] pairs = new long[rows.size()][];
+            for (int i = 0; i < pairs.length; i++) {
+                Object[] row = rows.get(i);
+                pairs[i] = new long[] { (Long) row[0], (Long) row[1] };
+            }
+            Arrays.sort(pairs, (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+            long[] routeHeadIds = new long[pairs.length];
+            long[] rowIds = new long[pairs.length];
+            int size = 0;
+            for (long[] pair : pairs) {
+                if (size > 0 && routeHeadIds[size - 1] == pair[0]) {
+                    continue;
+                }
+                routeHeadIds[size] = pair[0];
+                rowIds[size] = pair[1];
+                size++;
+            }
+            return new IdSet(Arrays.copyOf(routeHeadIds, size), Arrays.copyOf(rowIds, size));
+        }
+
+        int size() {
+            return routeHeadIds.length;
+        }
+
+        // 경로에 남긴 좋아요/북마크 ID (없으면 null)
+        Long get(long routeHeadId) {
+            int index = Arrays.binarySearch(routeHeadIds, routeHeadId);
+            return index >= 0 ? rowIds[index] : null;
+        }
+
+        IdSet with(long routeHeadId, long rowId) {
+            int index = Arrays.binarySearch(routeHeadIds, routeHeadId);
+            if (index >= 0) {
+                long[] newRowIds = rowIds.clone();
+                newRowIds[index] = rowId;
+                return new IdSet(routeHeadIds, newRowIds);
+            }
+
+            int insertAt = -index - 1;
+            long[] newRouteHeadIds = new long[routeHeadIds.length + 1];
+            long[] newRowIds = new long[rowIds.length + 1];
+            System.arraycopy(routeHeadIds, 0, newRouteHeadIds, 0, insertAt);
+            System.arraycopy(rowIds, 0, newRowIds, 0, insertAt);
+            newRouteHeadIds[insertAt] = routeHeadId;
+            newRowIds[insertAt] = rowId;
+            System.arraycopy(routeHeadIds, insertAt, newRouteHeadIds, insertAt + 1, routeHeadIds.length - insertAt);
+            System.arraycopy(rowIds, insertAt, newRowIds, insertAt + 1, rowIds.length - insertAt);
+            return new IdSet(newRouteHeadIds, newRowIds);
+        }
+
+        IdSet without(long routeHeadId) {
+            int index = Arrays.binarySearch(routeHeadIds, routeHeadId);
+            if (index < 0) {
+                return this;
+            }
+
+            long[] newRouteHeadIds = new long[routeHeadIds.length - 1];
+            long[] newRowIds = new long[rowIds.length - 1];
+            System.arraycopy(routeHeadIds, 0, newRouteHeadIds, 0, index);
+            System.arraycopy(rowIds, 0, newRowIds, 0, index);
+            System.arraycopy(routeHeadIds, index + 1, newRouteHeadIds, index, routeHeadIds.length - index - 1);
+            System.arraycopy(rowIds, index + 1, newRowIds, index, rowIds.length - index - 1);
+            return newRouteHeadIds.length == 0 ? EMPTY : new IdSet(newRouteHeadIds, newRowIds);
+        }
+    }
+
+    /**
+     * 사용자가 경로에 남긴 좋아요 ID를 반환하는 메서드
+     *
+     * @param userId      - 사용자 ID
+     * @param routeHeadId - 경로 ID
+     * @return 좋아요 ID (좋아요하지 않았으면 null)
+     */
+    public Long getLikeId(Long userId, Long routeHeadId) {
+        return load(userId).likes.get(routeHeadId);
+    }
+
+    /**
+     * 사용자가 경로에 남긴 북마크 ID를 반환하는 메서드
+     *
+     * @param userId      - 사용자 ID
+     * @param routeHeadId - 경로 ID
+     * @return 북마크 ID (북마크하지 않았으면 null)
+     */
+    public Long getBookmarkId(Long userId, Long routeHeadId) {
+        return load(userId).bookmarks.get(routeHeadId);
+    }
+
+    /**
+     * 좋아요 저장이 커밋된 뒤 캐시에 반영하는 메서드
+     *
+     * @param userId      - 사용자 ID
+     * @param routeHeadId - 경로 ID
+     * @param likeId      - 저장된 좋아요 ID
+     */
+    public void addLike(Long userId, Long routeHeadId, Long likeId) {
+        memberships.asMap().computeIfPresent(userId,
+                (key, membership) -> new Membership(membership.likes.with(routeHeadId, likeId), membership.bookmarks));
+    }
+
+    public void removeLike(Long userId, Long routeHeadId) {
+        memberships.asMap().computeIfPresent(userId,
+                (key, membership) -> new Membership(membership.likes.without(routeHeadId), membership.bookmarks));
+    }
+
+    /**
+     * 북마크 저장이 커밋된 뒤 캐시에 반영하는 메서드
+     *
+     * @param userId      - 사용자 ID
+     * @param routeHeadId - 경로 ID
+     * @param bookmarkId  - 저장된 북마크 ID
+     */
+    public void addBookmark(Long userId, Long routeHeadId, Long bookmarkId) {
+        memberships.asMap().computeIfPresent(userId, (key, membership) -> new Membership(membership.likes,
+                membership.bookmarks.with(routeHeadId, bookmarkId)));
+    }
+
+    public void removeBookmark(Long userId, Long routeHeadId) {
+        memberships.asMap().computeIfPresent(userId,
+                (key, membership) -> new Membership(membership.likes, membership.bookmarks.without(routeHeadId)));
+    }
+
+    // 캐시에 없으면 사용자의 좋아요/북마크 전체를 읽음 (같은 사용자의 동시 요청은 한 번만 읽음)
+    // 적재 중에 커밋된 변경의 add/remove 호출은 적재가 끝날 때까지 기다렸다가 반영됨
+    private Membership load(Long userId) {
+        return memberships.get(userId, key -> loadTransaction.execute(status -> new Membership(
+                IdSet.of(routeLikeRepository.findRouteHeadIdsAndIdsByUserId(key)),
+                IdSet.of(routeBookmarkRepository.findRouteHeadIdsAndIdsByUserId(key)))));
+    }
+}
@@ -0,0 +1,309 @@
+package com.gayou.route.service;
+
+import java.util.Arrays;
+
+import org.springframework.stereotype.Component;
+
+import com.gayou.places.service.GeoDistance;
+
+/**
+ * 경로의 장소 방문 순서를 총 이동 거리가 짧아지도록 정하는 컴포넌트
+ *
+ * 장소 간 거리는 위경도(mapy, mapx)로 계산한 하버사인 거리(미터)이며, 돌아오지 않는 열린 경로를 기준으로 합니다.
+ * EXACT_MAX_PLACES개 이하는 동적 계획법(Held-Karp)으로 최적 순서를 구합니다.
+ * 그보다 많으면 모든 시작점에서 최근접 이웃으로 초기 순서를 만든 뒤 가장 짧은 순서를 2-opt(구간 뒤집기)와
+ * Or-opt(1~3개 구간 옮기기)로 더 이상 줄지 않을 때까지 개선합니다. 이 경우 최적해를 보장하지는 않지만
+ * 수십 개 장소는 수 밀리초 안에 처리합니다.
+ */
+@Component
+public class RouteOptimizer {
+
+    // 부동소수점 오차로 같은 순서를 계속 바꾸지 않도록 이보다 작은 개선은 무시
+    private static final double EPSILON = 1e-7;
+
+    // Or-opt로 옮겨 볼 최대 구간 길이
+    private static final int MAX_SEGMENT_LENGTH = 3;
+
+    // 최적 순서를 정확히 구하는 최대 장소 수 (2^n * n^2 연산)
+    static final int EXACT_MAX_PLACES = 10;
+
+    /**
+     * 방문 순서를 최적화하는 메서드
+     *
+     * @param latitudes  - 장소별 위도 (mapy)
+     * @param longitudes - 장소별 경도 (mapx)
+     * @param fixStart   - true이면 첫 번째 장소를 출발지로 고정
+     * @param fixEnd     - true이면 마지막 장소를 도착지로 고정
+     * @return 입력 인덱스를 방문 순서대로 나열한 배열
+     */
+    public int[] optimize(double[] latitudes, double[] longitudes, boolean fixStart, boolean fixEnd) {
+        int n = latitudes.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        if (n <= 2 || (n == 3 && fixStart && fixEnd)) {
+            return order;
+        }
+
+        double[] distances = GeoDistance.matrix(latitudes, longitudes);
+        if (n <= EXACT_MAX_PLACES) {
+            return heldKarp(distances, n, fixStart, fixEnd);
+        }
+        return improve(distances, n, nearestNeighbour(distances, n, fixStart, fixEnd), fixStart, fixEnd);
+    }
+
+    /**
+     * 최근접 이웃 순서를 2-opt와 Or-opt로 개선하는 메서드 (장소 수와 관계없이 휴리스틱만 사용 - 테스트용)
+     *
+     * @param latitudes  - 장소별 위도 (mapy)
+     * @param longitudes - 장소별 경도 (mapx)
+     * @param fixStart   - true이면 첫 번째 장소를 출발지로 고정
+     * @param fixEnd     - true이면 마지막 장소를 도착지로 고정
+     * @return 입력 인덱스를 방문 순서대로 나열한 배열
+     */
+    int[] optimizeHeuristically(double[] latitudes, double[] longitudes, boolean fixStart, boolean fixEnd) {
+        int n = latitudes.length;
+        if (n <= 2) {
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            return order;
+        }
+        double[] distances = GeoDistance.matrix(latitudes, longitudes);
+        return improve(distances, n, nearestNeighbour(distances, n, fixStart, fixEnd), fixStart, fixEnd);
+    }
+
+    // 2-opt와 Or-opt 모두 더 이상 줄지 않을 때까지 반복
+    private static int[] improve(double[] distances, int n, int[] order, boolean fixStart, boolean fixEnd) {
+        boolean improved = true;
+        while (improved) {
+            improved = twoOpt(distances, n, order, fixStart, fixEnd);
+            improved |= orOpt(distances, n, order, fixStart, fixEnd);
+        }
+        return order;
+    }
+
+    // 방문한 장소 집합(mask)과 마지막 장소별 최단 거리로 최적 순서를 구함 (도착지 고정 시 마지막 장소가 n - 1인 경우만)
+    private static int[] heldKarp(double[] distances, int n, boolean fixStart, boolean fixEnd) {
+        int full = (1 << n) - 1;
+        double[] best = new double[(full + 1) * n];
+        int[] parent = new int[(full + 1) * n];
+        Arrays.fill(best, Double.MAX_VALUE);
+        for (int start = 0; start < (fixStart ? 1 : n); start++) {
+            best[(1 << start) * n + start] = 0;
+            parent[(1 << start) * n + start] = -1;
+        }
+
+        for (int mask = 1; mask <= full; mask++) {
+            for (int last = 0; last < n; last++) {
+                double length = best[mask * n + last];
+                if (length == Double.MAX_VALUE) {
+                    continue;
+                }
+                for (int next = 0; next < n; next++) {
+                    if ((mask & (1 << next)) != 0) {
+                        continue;
+                    }
+                    int slot = (mask | (1 << next)) * n + next;
+                    double candidate = length + distances[last * n + next];
+                    if (candidate < best[slot]) {
+                        best[slot] = candidate;
+                        parent[slot] = last;
+                    }
+                }
+            }
+        }
+
+        int last = fixEnd ? n - 1 : 0;
+        if (!fixEnd) {
+            for (int candidate = 1; candidate < n; candidate++) {
+                if (best[full * n + candidate] < best[full * n + last]) {
+                    last = candidate;
+                }
+            }
+        }
+
+        int[] order = new int[n];
+        int mask = full;
+        for (int k = n - 1; k >= 0; k--) {
+            order[k] = last;
+            int previous = parent[mask * n + last];
+            mask &= ~(1 << last);
+            last = previous;
+        }
+        return order;
+    }
+
+    /**
+     * 주어진 순서대로 방문할 때의 총 거리를 계산하는 메서드
+     *
+     * @param latitudes  - 장소별 위도 (mapy)
+     * @param longitudes - 장소별 경도 (mapx)
+     * @param order      - 방문 순서 (입력 인덱스)
+     * @return 총 거리 (미터)
+     */
+    public static double pathLength(double[] latitudes, double[] longitudes, int[] order) {
+        double length = 0;
+        for (int k = 1; k < order.length; k++) {
+            length += GeoDistance.haversine(latitudes[order[k - 1]], longitudes[order[k - 1]], latitudes[order[k]],
+                    longitudes[order[k]]);
+        }
+        return length;
+    }
+
+    // 장소 a, b 사이 거리 (어느 한쪽이 경로 밖(-1)이면 0)
+    private static double d(double[] distances, int n, int a, int b) {
+        return a < 0 || b < 0 ? 0 : distances[a * n + b];
+    }
+
+    // 가능한 모든 출발지에서 최근접 이웃 순서를 만들어 가장 짧은 것을 선택 (도착지 고정 시 마지막에 방문)
+    private static int[] nearestNeighbour(double[] distances, int n, boolean fixStart, boolean fixEnd) {
+        int end = fixEnd ? n - 1 : -1;
+        int[] best = null;
+        double bestLength = Double.MAX_VALUE;
+        boolean[] visited = new boolean[n];
+
+        for (int start = 0; start < (fixStart ? 1 : n); start++) {
+            if (start == end) {
+                continue;
+            }
+            Arrays.fill(visited, false);
+            int[] order = new int[n];
+            order[0] = start;
+            visited[start] = true;
+            double length = 0;
+            for (int k = 1; k < n; k++) {
+                int current = order[k - 1];
+                int next = -1;
+                if (k == n - 1 && end >= 0) {
+                    next = end;
+                } else {
+                    double nearest = Double.MAX_VALUE;
+                    for (int candidate = 0; candidate < n; candidate++) {
+                        if (!visited[candidate] && candidate != end && distances[current * n + candidate] < nearest) {
+                            nearest = distances[current * n + candidate];
+                            next = candidate;
+                        }
+                    }
+                }
+                order[k] = next;
+                visited[next] = true;
+                length += distances[current * n + next];
+            }
+            if (length < bestLength) {
+                bestLength = length;
+                best = order;
+            }
+        }
+        return best;
+    }
+
+    // 구간 [i, j]를 뒤집어 거리가 줄어드는 경우를 모두 적용
+    private static boolean twoOpt(double[] distances, int n, int[] order, boolean fixStart, boolean fixEnd) {
+        boolean improvedAny = false;
+        boolean improved = true;
+        int first = fixStart ? 1 : 0;
+        int last = fixEnd ? n - 2 : n - 1;
+        while (improved) {
+            improved = false;
+            for (int i = first; i < last; i++) {
+                int prev = i > 0 ? order[i - 1] : -1;
+                for (int j = i + 1; j <= last; j++) {
+                    int next = j < n - 1 ? order[j + 1] : -1;
+                    double delta = d(distances, n, prev, order[j]) + d(distances, n, order[i], next)
+                            - d(distances, n, prev, order[i]) - d(distances, n, order[j], next);
+                    if (delta < -EPSILON) {
+                        reverse(order, i, j);
+                        improved = true;
+                        improvedAny = true;
+                    }
+                }
+            }
+        }
+        return improvedAny;
+    }
+
+    // 1~3개 장소 구간을 다른 위치로 (필요하면 뒤집어) 옮겨 거리가 줄어드는 첫 경우를 적용
+    private static boolean orOpt(double[] distances, int n, int[] order, boolean fixStart, boolean fixEnd) {
+        boolean improvedAny = false;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            search:
+            for (int length = 1; length <= MAX_SEGMENT_LENGTH && length < n - 1; length++) {
+                for (int i = fixStart ? 1 : 0; i + length <= (fixEnd ? n - 1 : n); i++) {
+                    int segmentEnd = i + length - 1;
+                    int head = order[i];
+                    int tail = order[segmentEnd];
+                    int prev = i > 0 ? order[i - 1] : -1;
+                    int next = segmentEnd < n - 1 ? order[segmentEnd + 1] : -1;
+                    double removeGain = d(distances, n, prev, head) + d(distances, n, tail, next)
+                            - d(distances, n, prev, next);
+
+                    // 구간을 뺀 경로에서 위치 k의 장소 뒤에 삽입 (k = -1이면 맨 앞)
+                    for (int k = -1; k < n; k++) {
+                        if (k >= i - 1 && k <= segmentEnd) {
+                            continue;
+                        }
+                        if ((k == -1 && fixStart) || (k == n - 1 && fixEnd)) {
+                            continue;
+                        }
+                        int a = k >= 0 ? order[k] : -1;
+                        int b = k + 1 < n ? order[k + 1] : -1;
+                        if (a < 0 && b < 0) {
+                            continue;
+                        }
+                        double base = d(distances, n, a, b);
+                        double forward = d(distances, n, a, head) + d(distances, n, tail, b) - base;
+                        double reversed = d(distances, n, a, tail) + d(distances, n, head, b) - base;
+                        double insertCost = Math.min(forward, reversed);
+                        if (insertCost - removeGain < -EPSILON) {
+                            moveSegment(order, i, length, k, reversed < forward);
+                            improved = true;
+                            improvedAny = true;
+                            break search;
+                        }
+                    }
+                }
+            }
+        }
+        return improvedAny;
+    }
+
+    private static void reverse(int[] order, int i, int j) {
+        while (i < j) {
+            int tmp = order[i];
+            order[i++] = order[j];
+            order[j--] = tmp;
+        }
+    }
+
+    // order[i, i + length)를 떼어 원래 위치 k의 장소 뒤(k = -1이면 맨 앞)에 삽입
+    private static void moveSegment(int[] order, int i, int length, int k, boolean reversed) {
+        int n = order.length;
+        int[] segment = new int[length];
+        System.arraycopy(order, i, segment, 0, length);
+        if (reversed) {
+            reverse(segment, 0, length - 1);
+        }
+
+        int[] rest = new int[n - length];
+        int size = 0;
+        int insertAt = 0;
+        for (int p = 0; p < n; p++) {
+            if (p >= i && p < i + length) {
+                continue;
+            }
+            rest[size++] = order[p];
+            if (p == k) {
+                insertAt = size;
+            }
+        }
+
+        System.arraycopy(rest, 0, order, 0, insertAt);
+        System.arraycopy(segment, 0, order, insertAt, length);
+        System.arraycopy(rest, insertAt, order, insertAt + length, rest.length - insertAt);
+    }
+}
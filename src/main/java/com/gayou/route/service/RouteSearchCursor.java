@@ -0,0 +1,53 @@
+package com.gayou.route.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import lombok.Getter;
+
+/**
+ * 경로 검색 결과 페이지네이션 커서
+ *
+ * 마지막으로 내려준 경로의 (관련도 점수, id)를 담으며, 클라이언트에는 Base64 URL 문자열로 전달됩니다.
+ * 페이지 사이에 색인이 바뀌면 점수도 바뀔 수 있으므로, 같은 경로가 두 페이지에 걸쳐 나오거나 빠질 수 있습니다.
+ */
+@Getter
+public class RouteSearchCursor {
+
+    private final double score;
+    private final Long id;
+
+    public RouteSearchCursor(double score, Long id) {
+        this.score = score;
+        this.id = id;
+    }
+
+    /**
+     * 커서를 불투명한 토큰 문자열로 변환하는 메서드
+     *
+     * @return Base64 URL 인코딩된 커서 토큰
+     */
+    public String encode() {
+        String raw = Double.doubleToLongBits(score) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 토큰을 커서로 복원하는 메서드
+     *
+     * @param token - encode()로 만들어진 커서 토큰
+     * @return 복원된 커서
+     * @throws IllegalArgumentException - 토큰 형식이 올바르지 않은 경우
+     */
+    public static RouteSearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            long scoreBits = Long.parseLong(raw.substring(0, separator));
+            long id = Long.parseLong(raw.substring(separator + 1));
+            return new RouteSearchCursor(Double.longBitsToDouble(scoreBits), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid search cursor: " + token, e);
+        }
+    }
+}
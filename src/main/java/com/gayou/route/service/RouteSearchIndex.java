@@ -0,0 +1,333 @@
+package com.gayou.route.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gayou.route.repository.RouteCardRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 공개 경로 전문 검색용 메모리 역색인
+ *
+ * 코스 이름, 본문, 지역, 해시태그, 경로에 포함된 장소 이름을 SearchTokenizer로 나누어 색인하고,
+ * 필드 가중치를 반영한 BM25로 순위를 매깁니다.
+ * 경로 카드(route_card)의 직렬화된 경로 정보를 원본으로 사용하며,
+ * RouteCardService의 쓰기 메서드가 커밋된 뒤 해당 경로만 다시 색인합니다. 시작 시 전체를 백그라운드에서 다시 만듭니다.
+ */
+@Component
+public class RouteSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(RouteSearchIndex.class);
+
+    // 필드별 가중치 (같은 단어라도 코스 이름/해시태그에 있으면 본문보다 높게 평가)
+    private static final float COURSE_NAME_WEIGHT = 3.0f;
+    private static final float TAG_WEIGHT = 3.0f;
+    private static final float TOWN_WEIGHT = 2.0f;
+    private static final float PLACE_WEIGHT = 2.0f;
+    private static final float CONTENT_WEIGHT = 1.0f;
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 전체 재색인 시 한 번에 읽는 카드 수
+    private static final int REBUILD_CHUNK_SIZE = 200;
+
+    private final RouteCardRepository routeCardRepository;
+    private final ObjectMapper objectMapper;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "route-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Postings postings = new Postings();
+    // 전체 재색인 중에 변경된 경로 ID (교체 후 다시 반영)
+    private volatile Set<Long> changedDuringRebuild;
+
+    public RouteSearchIndex(RouteCardRepository routeCardRepository, ObjectMapper objectMapper) {
+        this.routeCardRepository = routeCardRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    // 역색인 본체 (토큰 -> 경로 ID -> 가중 빈도, 경로 ID -> 문서 길이)
+    private static class Postings {
+        private final Map<String, Map<Long, Float>> byToken = new HashMap<>();
+        private final Map<Long, Float> docLengths = new HashMap<>();
+        private final Map<Long, Set<String>> docTokens = new HashMap<>();
+        private double totalLength;
+
+        private void put(Long routeHeadId, Map<String, Float> termFrequencies) {
+            remove(routeHeadId);
+
+            float length = 0;
+            for (Map.Entry<String, Float> term : termFrequencies.entrySet()) {
+                byToken.computeIfAbsent(term.getKey(), token -> new HashMap<>()).put(routeHeadId, term.getValue());
+                length += term.getValue();
+            }
+            docLengths.put(routeHeadId, length);
+            docTokens.put(routeHeadId, termFrequencies.keySet());
+            totalLength += length;
+        }
+
+        private void remove(Long routeHeadId) {
+            Set<String> tokens = docTokens.remove(routeHeadId);
+            if (tokens == null) {
+                return;
+            }
+            for (String token : tokens) {
+                Map<Long, Float> docs = byToken.get(token);
+                docs.remove(routeHeadId);
+                if (docs.isEmpty()) {
+                    byToken.remove(token);
+                }
+            }
+            totalLength -= docLengths.remove(routeHeadId);
+        }
+    }
+
+    private record Hit(Long routeHeadId, double score) {
+    }
+
+    /**
+     * 검색어와 관련도가 높은 공개 경로를 한 페이지씩 가져오는 메서드
+     *
+     * 검색어 토큰을 많이 포함할수록, 드문 토큰일수록, 가중치가 높은 필드에 있을수록 앞에 옵니다.
+     * 순위는 (점수, id) 내림차순이며, 커서 이후의 결과 중 한 페이지 분량만 보관하므로 페이지 깊이와 관계없이 메모리 사용량이 같습니다.
+     *
+     * @param query - 검색어
+     * @param after - 이전 페이지의 마지막 결과 (첫 페이지는 null)
+     * @param size  - 페이지 크기
+     * @return 관련도 내림차순 경로 ID 목록과 다음 페이지 커서 (마지막 페이지이면 null)
+     */
+    public SearchPage page(String query, RouteSearchCursor after, int size) {
+        Set<String> queryTokens = new HashSet<>(SearchTokenizer.tokenize(query));
+        if (queryTokens.isEmpty() || size <= 0) {
+            return new SearchPage(Collections.emptyList(), null);
+        }
+
+        lock.readLock().lock();
+        try {
+            int docCount = postings.docLengths.size();
+            if (docCount == 0) {
+                return new SearchPage(Collections.emptyList(), null);
+            }
+            double averageLength = postings.totalLength / docCount;
+
+            Map<Long, Double> scores = new HashMap<>();
+            Map<Long, Integer> matchedTokens = new HashMap<>();
+            for (String token : queryTokens) {
+                Map<Long, Float> docs = postings.byToken.get(token);
+                if (docs == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (docCount - docs.size() + 0.5) / (docs.size() + 0.5));
+                for (Map.Entry<Long, Float> doc : docs.entrySet()) {
+                    double tf = doc.getValue();
+                    double norm = K1 * (1 - B + B * postings.docLengths.get(doc.getKey()) / averageLength);
+                    scores.merge(doc.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                    matchedTokens.merge(doc.getKey(), 1, Integer::sum);
+                }
+            }
+
+            // 검색어 토큰 중 일부만 포함한 경로는 포함 비율의 제곱만큼 낮춤
+            // 다음 페이지 여부를 알기 위해 한 건 더 보관 (힙의 맨 앞이 가장 낮은 순위)
+            Comparator<Hit> byRank = Comparator.comparingDouble(Hit::score).thenComparing(Hit::routeHeadId);
+            PriorityQueue<Hit> top = new PriorityQueue<>(byRank);
+            for (Map.Entry<Long, Double> score : scores.entrySet()) {
+                double coverage = (double) matchedTokens.get(score.getKey()) / queryTokens.size();
+                Hit hit = new Hit(score.getKey(), score.getValue() * coverage * coverage);
+                if (after != null && !isAfter(hit, after)) {
+                    continue;
+                }
+                top.add(hit);
+                if (top.size() > size + 1) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(byRank.reversed());
+            List<Long> routeHeadIds = new ArrayList<>();
+            for (int i = 0; i < ranked.size() && i < size; i++) {
+                routeHeadIds.add(ranked.get(i).routeHeadId());
+            }
+            if (ranked.size() <= size) {
+                return new SearchPage(routeHeadIds, null);
+            }
+            Hit last = ranked.get(size - 1);
+            return new SearchPage(routeHeadIds, new RouteSearchCursor(last.score(), last.routeHeadId()).encode());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public record SearchPage(List<Long> routeHeadIds, String nextCursor) {
+    }
+
+    // (점수, id) 내림차순에서 커서보다 뒤에 오는 결과인지 여부
+    private static boolean isAfter(Hit hit, RouteSearchCursor after) {
+        return hit.score() < after.getScore()
+                || (hit.score() == after.getScore() && hit.routeHeadId() < after.getId());
+    }
+
+    /**
+     * 경로를 현재 트랜잭션이 커밋된 뒤 route_card 기준으로 다시 색인하는 메서드
+     *
+     * @param routeHeadId - 다시 색인할 경로 ID (비공개이거나 삭제된 경로는 색인에서 제거)
+     */
+    public void refreshAfterCommit(Long routeHeadId) {
+        AfterCommit.run(() -> refresh(routeHeadId));
+    }
+
+    private void refresh(Long routeHeadId) {
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(routeHeadId);
+        }
+
+        try {
+            List<Object[]> rows = routeCardRepository.findSearchSourceByRouteHeadId(routeHeadId);
+            Map<String, Float> termFrequencies = rows.isEmpty() || !(Boolean) rows.get(0)[0] ? null
+                    : toTermFrequencies((String) rows.get(0)[1]);
+
+            lock.writeLock().lock();
+            try {
+                if (termFrequencies == null) {
+                    postings.remove(routeHeadId);
+                } else {
+                    postings.put(routeHeadId, termFrequencies);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (RuntimeException e) {
+            // 커밋은 이미 끝났으므로 요청을 실패시키지 않고 다음 재색인에 맡김
+            log.warn("Failed to refresh search index of route {}", routeHeadId, e);
+        }
+    }
+
+    /**
+     * route_card의 공개 경로 전체로 색인을 새로 만들어 교체하는 메서드
+     */
+    public void rebuild() {
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+        try {
+            Postings rebuilt = new Postings();
+            Long afterId = 0L;
+            List<Object[]> rows;
+            do {
+                rows = routeCardRepository.findPublicSearchSourcesAfter(afterId,
+                        PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                for (Object[] row : rows) {
+                    afterId = (Long) row[0];
+                    rebuilt.put(afterId, toTermFrequencies((String) row[1]));
+                }
+            } while (rows.size() == REBUILD_CHUNK_SIZE);
+
+            lock.writeLock().lock();
+            try {
+                postings = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Indexed {} routes for search", rebuilt.docLengths.size());
+        } finally {
+            changedDuringRebuild = null;
+        }
+
+        // 재색인용 조회 이후에 커밋된 변경이 이전 색인에만 반영되었을 수 있으므로 다시 반영
+        changed.forEach(this::refresh);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    public void start() {
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Route search index rebuild failed", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    // 직렬화된 경로 정보 중 색인하는 필드만 읽기 위한 형태 (나머지 필드는 건너뜀)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record SearchSource(String courseName, String content, String town, List<String> tag, List<SearchStop> data) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record SearchStop(SearchPlace contentid) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record SearchPlace(String title) {
+    }
+
+    // 경로 카드의 직렬화된 경로 정보를 필드 가중치가 반영된 토큰 빈도로 변환
+    private Map<String, Float> toTermFrequencies(String payload) {
+        SearchSource route;
+        try {
+            route = objectMapper.readValue(payload, SearchSource.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read route card payload", e);
+        }
+
+        Map<String, Float> termFrequencies = new HashMap<>();
+        addField(termFrequencies, route.courseName(), COURSE_NAME_WEIGHT);
+        addField(termFrequencies, route.content(), CONTENT_WEIGHT);
+        addField(termFrequencies, route.town(), TOWN_WEIGHT);
+        if (route.tag() != null) {
+            for (String tag : route.tag()) {
+                addField(termFrequencies, tag, TAG_WEIGHT);
+            }
+        }
+        if (route.data() != null) {
+            for (SearchStop stop : route.data()) {
+                if (stop.contentid() != null) {
+                    addField(termFrequencies, stop.contentid().title(), PLACE_WEIGHT);
+                }
+            }
+        }
+        return termFrequencies;
+    }
+
+    private void addField(Map<String, Float> termFrequencies, String text, float weight) {
+        for (String token : SearchTokenizer.tokenize(text)) {
+            termFrequencies.merge(token, weight, Float::sum);
+        }
+    }
+}
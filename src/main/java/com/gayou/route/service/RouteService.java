@@ -2,32 +2,56 @@ package com.gayou.route.service;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.gayou.auth.dto.UserDto;
 import com.gayou.auth.model.User;
 import com.gayou.auth.repository.UserRepository;
-import com.gayou.hashtag.model.Hashtag;
-import com.gayou.hashtag.repository.HashtagRepository;
-import com.gayou.places.dto.PlacesDto;
+import com.gayou.auth.service.UserIdCache;
+import com.gayou.hashtag.service.HashtagResolver;
+import com.gayou.hashtag.service.HashtagSuggestIndex;
+import com.gayou.hashtag.service.TrendingHashtagCounter;
 import com.gayou.places.model.Places;
 import com.gayou.places.repository.PlacesRepository;
 import com.gayou.route.dto.RouteBookmarkDto;
+import com.gayou.route.dto.RouteCacheStatsDto;
+import com.gayou.route.dto.RouteFeedDto;
+import com.gayou.route.dto.RouteFeedFilter;
 import com.gayou.route.dto.RouteLikeDto;
+import com.gayou.route.dto.RouteOptimizeDto;
+import com.gayou.route.dto.RouteOptimizeRequestDto;
 import com.gayou.route.dto.RouteHeadDto;
 import com.gayou.route.dto.RouteItemDto;
+import com.gayou.route.dto.RouteStopSummaryDto;
+import com.gayou.route.dto.RouteSummaryDto;
+import com.gayou.route.dto.RouteToggleDto;
+import com.gayou.route.exception.PlacesNotFoundException;
 import com.gayou.route.model.RouteBookmark;
+import com.gayou.route.model.RouteCard;
 import com.gayou.route.model.RouteLike;
 import com.gayou.route.model.RouteHashtags;
 import com.gayou.route.model.RouteHead;
 import com.gayou.route.model.RouteItem;
 import com.gayou.route.repository.RouteBookmarkRepository;
+import com.gayou.route.repository.RouteCardRepository;
 import com.gayou.route.repository.RouteLikeRepository;
 import com.gayou.route.repository.RouteHashtagsRepository;
 import com.gayou.route.repository.RouteHeadRepository;
@@ -36,28 +60,74 @@ import com.gayou.route.repository.RouteItemRepository;
 @Service
 public class RouteService {
 
+    private static final Logger log = LoggerFactory.getLogger(RouteService.class);
+
+    // 공개 피드 한 페이지의 최대 경로 수
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+
     private final RouteHeadRepository routeHeadRepository;
     private final RouteItemRepository routeItemRepository;
     private final PlacesRepository placesRepository;
-    private final HashtagRepository hashtagRepository;
     private final RouteHashtagsRepository routeHashtagsRepository;
     private final RouteBookmarkRepository routeBookmarkRepository;
     private final RouteLikeRepository routeLikeRepository; // RouteLikeRepository 추가
     private final UserRepository userRepository;
+    private final RouteGraphLoader routeGraphLoader;
+    private final RouteViewerStateResolver routeViewerStateResolver;
+    private final RouteHeadAssembler routeHeadAssembler;
+    private final RouteCardService routeCardService;
+    private final RouteCardRepository routeCardRepository;
+    private final RouteDetailCache routeDetailCache;
+    private final HotRouteIndex hotRouteIndex;
+    private final RouteSearchIndex routeSearchIndex;
+    private final HashtagSuggestIndex hashtagSuggestIndex;
+    private final TrendingHashtagCounter trendingHashtagCounter;
+    private final HashtagResolver hashtagResolver;
+    private final RouteEngagementCounter routeEngagementCounter;
+    private final RouteMembershipCache routeMembershipCache;
+    private final UserIdCache userIdCache;
+    private final RouteOptimizer routeOptimizer;
+    private final int optimizeMaxPlaces;
+    private final TransactionTemplate readOnlyTransaction;
 
     public RouteService(RouteHeadRepository routeHeadRepository, RouteItemRepository routeItemRepository,
             PlacesRepository placesRepository, RouteHashtagsRepository routeHashtagsRepository,
-            HashtagRepository hashtagRepository, RouteBookmarkRepository routeBookmarkRepository,
+            RouteBookmarkRepository routeBookmarkRepository,
             RouteLikeRepository routeLikeRepository, // 생성자에 RouteLikeRepository 추가
-            UserRepository userRepository) {
+            UserRepository userRepository, RouteGraphLoader routeGraphLoader,
+            RouteViewerStateResolver routeViewerStateResolver, RouteHeadAssembler routeHeadAssembler,
+            RouteCardService routeCardService, RouteCardRepository routeCardRepository,
+            RouteDetailCache routeDetailCache, PlatformTransactionManager transactionManager,
+            HotRouteIndex hotRouteIndex, RouteSearchIndex routeSearchIndex, HashtagSuggestIndex hashtagSuggestIndex,
+            TrendingHashtagCounter trendingHashtagCounter, HashtagResolver hashtagResolver,
+            RouteEngagementCounter routeEngagementCounter, RouteMembershipCache routeMembershipCache,
+            UserIdCache userIdCache, RouteOptimizer routeOptimizer,
+            @Value("${route.optimize.max-places}") int optimizeMaxPlaces) {
         this.routeHeadRepository = routeHeadRepository;
         this.routeItemRepository = routeItemRepository;
         this.placesRepository = placesRepository;
-        this.hashtagRepository = hashtagRepository;
         this.routeHashtagsRepository = routeHashtagsRepository;
         this.routeBookmarkRepository = routeBookmarkRepository;
         this.routeLikeRepository = routeLikeRepository; // 필드에 주입
         this.userRepository = userRepository;
+        this.routeGraphLoader = routeGraphLoader;
+        this.routeViewerStateResolver = routeViewerStateResolver;
+        this.routeHeadAssembler = routeHeadAssembler;
+        this.routeCardService = routeCardService;
+        this.routeCardRepository = routeCardRepository;
+        this.routeDetailCache = routeDetailCache;
+        this.hotRouteIndex = hotRouteIndex;
+        this.routeSearchIndex = routeSearchIndex;
+        this.hashtagSuggestIndex = hashtagSuggestIndex;
+        this.trendingHashtagCounter = trendingHashtagCounter;
+        this.hashtagResolver = hashtagResolver;
+        this.routeEngagementCounter = routeEngagementCounter;
+        this.routeMembershipCache = routeMembershipCache;
+        this.userIdCache = userIdCache;
+        this.routeOptimizer = routeOptimizer;
+        this.optimizeMaxPlaces = optimizeMaxPlaces;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
@@ -75,28 +145,102 @@ public class RouteService {
         routeHead.setUser(user);
         routeHead.setCreateDate(new Date());
         routeHead.setTown(routeDTO.getTown());
-        routeHead.setTotDistance(routeDTO.getTotDistance());
         routeHead.setPublic(false);
 
+        List<Integer> contentids = routeDTO.getData().stream()
+                .map(data -> data.getContentid().getContentid())
+                .collect(Collectors.toList());
+        List<Places> places = findPlacesInOrder(contentids);
+
+        // 총 거리는 장소 좌표로 서버에서 계산 (좌표가 없는 장소가 있으면 클라이언트 값 사용)
+        double[][] coordinates = coordinatesOf(places);
+        routeHead.setTotDistance(coordinates == null ? routeDTO.getTotDistance()
+                : Math.round(RouteOptimizer.pathLength(coordinates[0], coordinates[1], identityOrder(places.size()))));
+
         RouteHead savedRouteHead = routeHeadRepository.save(routeHead);
 
-        List<RouteItemDto> datas = routeDTO.getData();
+        // 경로 아이템은 JDBC 배치로 추가한 뒤 카드 직렬화용으로 한 번에 다시 조회 (장소는 위에서 조회한 엔티티 재사용)
+        routeItemRepository.insertAll(savedRouteHead.getId(), contentids);
+        List<RouteItem> routeItems = routeItemRepository.findByRouteHeadIdOrderById(savedRouteHead.getId());
 
-        List<RouteItem> routeItems = new ArrayList<>();
+        savedRouteHead.setData(routeItems);
+        savedRouteHead.setRouteHashtags(new ArrayList<>());
+        routeCardService.refresh(savedRouteHead);
 
-        for (RouteItemDto data : datas) {
-            Places place = placesRepository.findByContentid(data.getContentid().getContentid())
-                    .orElseThrow(
-                            () -> new RuntimeException("Place with contentid " + data.getContentid() + " not found"));
-            RouteItem routeItem = new RouteItem();
-            routeItem.setRouteHead(savedRouteHead);
-            routeItem.setPlace(place);
-            routeItems.add(routeItem);
+        return savedRouteHead.getId();
+    }
+
+    /**
+     * 장소 방문 순서를 총 이동 거리가 짧아지도록 최적화하는 메서드
+     *
+     * @param request - 방문할 장소 contentid 목록과 출발지/도착지 고정 여부
+     * @return 최적화된 방문 순서와 총 거리 (미터)
+     */
+    @Transactional(readOnly = true)
+    public RouteOptimizeDto optimizeRoute(RouteOptimizeRequestDto request) {
+        List<Integer> contentids = request.getContentids();
+        if (contentids == null || contentids.isEmpty()) {
+            throw new IllegalArgumentException("contentids must not be empty");
+        }
+        if (contentids.size() > optimizeMaxPlaces) {
+            throw new IllegalArgumentException("Too many places to optimize: " + contentids.size());
         }
 
-        routeItemRepository.saveAll(routeItems);
+        double[][] coordinates = coordinatesOf(findPlacesInOrder(contentids));
+        if (coordinates == null) {
+            throw new IllegalArgumentException("Places without coordinates cannot be optimized");
+        }
+        double[] latitudes = coordinates[0];
+        double[] longitudes = coordinates[1];
+        int[] order = routeOptimizer.optimize(latitudes, longitudes, request.isFixStart(), request.isFixEnd());
+
+        RouteOptimizeDto result = new RouteOptimizeDto();
+        List<Integer> optimized = new ArrayList<>(order.length);
+        for (int index : order) {
+            optimized.add(contentids.get(index));
+        }
+        result.setContentids(optimized);
+        result.setTotDistance(Math.round(RouteOptimizer.pathLength(latitudes, longitudes, order)));
+        result.setOriginalDistance(
+                Math.round(RouteOptimizer.pathLength(latitudes, longitudes, identityOrder(order.length))));
+        return result;
+    }
 
-        return savedRouteHead.getId();
+    // contentid 순서대로 장소를 조회 (한 번에 조회하고, 없는 장소는 한꺼번에 알림)
+    private List<Places> findPlacesInOrder(List<Integer> contentids) {
+        Map<Integer, Places> placesById = placesRepository.findAllById(new HashSet<>(contentids)).stream()
+                .collect(Collectors.toMap(Places::getContentid, Function.identity()));
+        List<Integer> missingContentids = contentids.stream()
+                .filter(contentid -> !placesById.containsKey(contentid))
+                .distinct()
+                .collect(Collectors.toList());
+        if (!missingContentids.isEmpty()) {
+            throw new PlacesNotFoundException(missingContentids);
+        }
+        return contentids.stream().map(placesById::get).collect(Collectors.toList());
+    }
+
+    // 장소별 {위도(mapy) 배열, 경도(mapx) 배열} (좌표가 없는 장소가 있으면 null)
+    private static double[][] coordinatesOf(List<Places> places) {
+        double[] latitudes = new double[places.size()];
+        double[] longitudes = new double[places.size()];
+        for (int i = 0; i < places.size(); i++) {
+            Places place = places.get(i);
+            if (place.getMapy() == null || place.getMapx() == null) {
+                return null;
+            }
+            latitudes[i] = place.getMapy();
+            longitudes[i] = place.getMapx();
+        }
+        return new double[][] { latitudes, longitudes };
+    }
+
+    private static int[] identityOrder(int n) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        return order;
     }
 
     /**
@@ -111,62 +255,11 @@ public class RouteService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         List<RouteHead> headList = routeHeadRepository.findAllByUserId(user.getId(), Sort.by("id").descending());
+        routeGraphLoader.initialize(headList);
 
         List<RouteHeadDto> routeHeadDtoList = new ArrayList<>();
-
         for (RouteHead head : headList) {
-            RouteHeadDto routeHeadDto = new RouteHeadDto();
-            routeHeadDto.setId(head.getId());
-            routeHeadDto.setTown(head.getTown());
-            routeHeadDto.setCourseName(head.getCourseName());
-            routeHeadDto.setTotDistance(head.getTotDistance());
-            routeHeadDto.setContent(head.getContent());
-            routeHeadDto.setTotlike(head.getTotlike());
-            routeHeadDto.setCreateDate(head.getCreateDate());
-            routeHeadDto.setUpdateDate(head.getUpdateDate());
-            routeHeadDto.setPublic(head.isPublic());
-
-            List<String> hashtagList = new ArrayList<>();
-            for (RouteHashtags routeHashtag : head.getRouteHashtags()) {
-                hashtagList.add(routeHashtag.getHashtag().getTagName());
-            }
-
-            routeHeadDto.setTag(hashtagList);
-
-            List<RouteItemDto> dtoItemList = new ArrayList<>();
-            List<RouteItem> routeItemList = head.getData();
-
-            for (RouteItem item : routeItemList) {
-                RouteItemDto routeItemDto = new RouteItemDto();
-                routeItemDto.setId(item.getId());
-
-                Places places = item.getPlace();
-                PlacesDto placesDto = new PlacesDto(places.getContentid());
-                placesDto.setTitle(places.getTitle());
-                placesDto.setAddr1(places.getAddr1());
-                placesDto.setAddr2(places.getAddr2());
-                placesDto.setAreacode(places.getAreacode());
-                placesDto.setBooktour(places.getBooktour());
-                placesDto.setCat1(places.getCat1());
-                placesDto.setCat2(places.getCat2());
-                placesDto.setCat3(places.getCat3());
-                placesDto.setContenttypeid(places.getContenttypeid());
-                placesDto.setCreatedtime(places.getCreatedtime());
-                placesDto.setFirstimage(places.getFirstimage());
-                placesDto.setFirstimage2(places.getFirstimage2());
-                placesDto.setMapx(places.getMapx());
-                placesDto.setMapy(places.getMapy());
-                placesDto.setModifiedtime(places.getModifiedtime());
-                placesDto.setTel(places.getTel());
-                placesDto.setOverview(places.getOverview());
-                placesDto.setLastUpdated(places.getLastUpdated());
-
-                routeItemDto.setContentid(placesDto);
-                dtoItemList.add(routeItemDto);
-            }
-
-            routeHeadDto.setData(dtoItemList);
-            routeHeadDtoList.add(routeHeadDto);
+            routeHeadDtoList.add(routeHeadAssembler.toDto(head));
         }
 
         return routeHeadDtoList;
@@ -176,203 +269,401 @@ public class RouteService {
     public void routeDeleteLocations(Long id) {
         RouteHead head = routeHeadRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("route not found"));
+        List<String> removedTags = toTagNames(head.getRouteHashtags());
         routeHeadRepository.delete(head);
+        routeCardService.delete(id);
+        routeDetailCache.evict(id);
+        AfterCommit.run(() -> hashtagSuggestIndex.refresh(removedTags));
     }
 
-    @Transactional
+    /**
+     * 경로 상세를 가져오는 메서드
+     *
+     * 캐시에 있으면 트랜잭션을 열지 않고 바로 반환하며, 없을 때만 읽기 전용 트랜잭션에서 조립합니다.
+     *
+     * @param id - 조회할 경로의 ID
+     * @return 읽기 전용으로 공유되는 RouteHeadDto (수정 금지)
+     * @throws RuntimeException - 경로를 찾을 수 없는 경우 예외 발생
+     */
     public RouteHeadDto getRoute(Long id) {
+        return routeDetailCache.get(id, routeHeadId -> readOnlyTransaction.execute(status -> loadRoute(routeHeadId)));
+    }
+
+    /**
+     * 경로 상세의 ETag를 DTO 조립 없이 계산하는 메서드
+     *
+     * 경로 수정 시각, 경로에 포함된 장소의 최신 갱신 시각과 좋아요 수로 만듭니다.
+     *
+     * @param id - 조회할 경로의 ID
+     * @return 약한 ETag 값 (경로가 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public String getRouteETag(Long id) {
+        List<Object[]> rows = routeHeadRepository.findDetailVersion(id);
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        // 좋아요 수는 route_head.update_date를 바꾸지 않고 갱신되므로 응답과 같은 값(반영 전 증감분 포함)을 함께 넣음
+        Object[] row = rows.get(0);
+        return toETag("route", id, toMillis((Date) row[0]), toMillis((Date) row[1]),
+                routeEngagementCounter.withPendingLikes(id, (Long) row[2]));
+    }
+
+    /**
+     * ETag와 일치하는 경로 상세를 가져오는 메서드
+     *
+     * 캐시된 상세가 ETag보다 오래된 경우(TTL 이내의 장소 정보 변경 등) 캐시를 비우고 다시 조립하여,
+     * 응답 본문과 ETag가 서로 다른 버전을 가리키지 않도록 합니다.
+     *
+     * @param id   - 조회할 경로의 ID
+     * @param etag - getRouteETag로 계산한 ETag (null이면 확인하지 않음)
+     * @return 읽기 전용으로 공유되는 RouteHeadDto (수정 금지)
+     */
+    public RouteHeadDto getRoute(Long id, String etag) {
+        RouteHeadDto route = getRoute(id);
+        if (etag != null && !etag.equals(toRouteETag(route))) {
+            routeDetailCache.evict(id);
+            route = getRoute(id);
+        }
+        return route;
+    }
+
+    /**
+     * 현재 사용자의 경로 목록(GET /route/locations)의 ETag를 DTO 조립 없이 계산하는 메서드
+     *
+     * @param email   - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param summary - 요약 목록(view=summary) 여부
+     * @return 약한 ETag 값 (저장된 경로가 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public String getMyRouteETag(String email, boolean summary) {
+        Object[] row = routeHeadRepository.findListVersionByUserEmail(email).get(0);
+        long count = (Long) row[0];
+        if (count == 0) {
+            return null;
+        }
+
+        Date latestPlaceUpdate = routeItemRepository.findLatestPlaceUpdateByUserEmail(email);
+        // 요청 값을 그대로 넣지 않고 응답 형태별로 고정된 값 사용
+        return toETag(summary ? "routes-summary" : "routes-full", count, row[1], toMillis((Date) row[2]), row[3],
+                toMillis(latestPlaceUpdate));
+    }
+
+    public RouteCacheStatsDto getDetailCacheStats() {
+        return routeDetailCache.stats();
+    }
+
+    // 조립된 경로 상세로부터 getRouteETag와 같은 방식으로 ETag 계산
+    private String toRouteETag(RouteHeadDto route) {
+        long latestPlaceUpdate = 0;
+        for (RouteItemDto item : route.getData()) {
+            latestPlaceUpdate = Math.max(latestPlaceUpdate, toMillis(item.getContentid().getLastUpdated()));
+        }
+        return toETag("route", route.getId(), toMillis(route.getUpdateDate()), latestPlaceUpdate, route.getTotlike());
+    }
+
+    private static String toETag(String prefix, Object... parts) {
+        StringBuilder etag = new StringBuilder("W/\"").append(prefix);
+        for (Object part : parts) {
+            etag.append('-').append(part);
+        }
+        return etag.append('"').toString();
+    }
+
+    private static long toMillis(Date date) {
+        return date == null ? 0 : date.getTime();
+    }
+
+    private RouteHeadDto loadRoute(Long id) {
         RouteHead head = routeHeadRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("route not found"));
+        routeGraphLoader.initialize(List.of(head));
 
-        RouteHeadDto routeHeadDto = new RouteHeadDto();
-        routeHeadDto.setId(head.getId());
-        routeHeadDto.setTown(head.getTown());
-        routeHeadDto.setCourseName(head.getCourseName());
-        routeHeadDto.setTotDistance(head.getTotDistance());
-        routeHeadDto.setContent(head.getContent());
-        routeHeadDto.setTotlike(head.getTotlike());
-        routeHeadDto.setCreateDate(head.getCreateDate());
-        routeHeadDto.setUpdateDate(head.getUpdateDate());
-        routeHeadDto.setPublic(head.isPublic());
-
-        List<String> hashtagList = new ArrayList<>();
-        for (RouteHashtags routeHashtag : head.getRouteHashtags()) {
-            hashtagList.add(routeHashtag.getHashtag().getTagName());
-        }
-
-        routeHeadDto.setTag(hashtagList);
-
-        List<RouteItemDto> dtoItemList = new ArrayList<>();
-        List<RouteItem> routeItemList = head.getData();
-        for (RouteItem item : routeItemList) {
-            RouteItemDto routeItemDto = new RouteItemDto();
-            routeItemDto.setId(item.getId());
-
-            Places places = item.getPlace();
-            PlacesDto placesDto = new PlacesDto(places.getContentid());
-            placesDto.setTitle(places.getTitle());
-            placesDto.setAddr1(places.getAddr1());
-            placesDto.setAddr2(places.getAddr2());
-            placesDto.setAreacode(places.getAreacode());
-            placesDto.setBooktour(places.getBooktour());
-            placesDto.setCat1(places.getCat1());
-            placesDto.setCat2(places.getCat2());
-            placesDto.setCat3(places.getCat3());
-            placesDto.setContenttypeid(places.getContenttypeid());
-            placesDto.setCreatedtime(places.getCreatedtime());
-            placesDto.setFirstimage(places.getFirstimage());
-            placesDto.setFirstimage2(places.getFirstimage2());
-            placesDto.setMapx(places.getMapx());
-            placesDto.setMapy(places.getMapy());
-            placesDto.setModifiedtime(places.getModifiedtime());
-            placesDto.setTel(places.getTel());
-            placesDto.setOverview(places.getOverview());
-            placesDto.setLastUpdated(places.getLastUpdated());
-
-            routeItemDto.setContentid(placesDto);
-            dtoItemList.add(routeItemDto);
-        }
-
-        routeHeadDto.setData(dtoItemList);
-
-        return routeHeadDto;
+        return routeHeadAssembler.toDto(head);
     }
 
-    @Transactional
-    public List<RouteHeadDto> getRoutes(String email) {
+    /**
+     * 다른 사용자들의 공개 경로 피드를 커서 기반으로 한 페이지씩 가져오는 메서드
+     *
+     * @param email  - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param filter - 지역, 해시태그, 거리 필터 (비어 있으면 전체 공개 피드)
+     * @param cursor - 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size   - 페이지 크기 (1 ~ MAX_FEED_PAGE_SIZE 범위로 보정)
+     * @return 경로 목록과 다음 페이지 커서 (RouteFeedDto)
+     * @throws IllegalArgumentException - 커서 형식이 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public RouteFeedDto<RouteHeadDto> getRoutes(String email, RouteFeedFilter filter, String cursor, int size) {
         User user = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("user not found"));
-        List<RouteHead> headList = routeHeadRepository.findByIsPublicAndUserIdNot(true, user.getId(),
-                Sort.by(Sort.Order.desc("createDate")));
-        List<RouteHeadDto> routeHeadDtoList = new ArrayList<>();
+        int pageSize = toFeedPageSize(size);
 
-        for (RouteHead head : headList) {
-            RouteHeadDto routeHeadDto = new RouteHeadDto();
-            routeHeadDto.setId(head.getId());
-            routeHeadDto.setTown(head.getTown());
-            routeHeadDto.setCourseName(head.getCourseName());
-            routeHeadDto.setTotDistance(head.getTotDistance());
-            routeHeadDto.setContent(head.getContent());
-            routeHeadDto.setTotlike(head.getTotlike());
-            routeHeadDto.setCreateDate(head.getCreateDate());
-            routeHeadDto.setUpdateDate(head.getUpdateDate());
-            User routeUser = head.getUser();
-            UserDto routeUserDto = new UserDto();
-            routeUserDto.setId(routeUser.getId());
-            routeUserDto.setProfilePicture(routeUser.getProfilePicture());
-            routeUserDto.setName(routeUser.getName());
-            routeHeadDto.setUserId(routeUserDto);
-            routeHeadDto.setPublic(head.isPublic());
-            RouteBookmark routeBookmark = routeBookmarkRepository.findByRouteHeadAndUser(head, user);
-            RouteBookmarkDto routeBookmarkDto = new RouteBookmarkDto();
-            if (routeBookmark != null) {
-                routeBookmarkDto.setId(routeBookmark.getId());
-            }
-            routeHeadDto.setBookmark(routeBookmarkDto);
-
-            RouteLike routeLike = routeLikeRepository.findByRouteHeadAndUser(head, user);
-            RouteLikeDto routeLikeDto = new RouteLikeDto();
-            if (routeLike != null) {
-                routeLikeDto.setId(routeLike.getId());
-            }
-            routeHeadDto.setLike(routeLikeDto);
+        // 경로 카드 테이블 하나만 인덱스 순서대로 읽음
+        List<RouteCard> cards = findFilteredCards(user.getId(), filter, toFeedCursor(cursor), pageSize + 1);
+        FeedPage<RouteCard> page = toFeedPage(cards, pageSize,
+                card -> new RouteFeedCursor(card.getCreateDate(), card.getRouteHeadId()));
 
-            List<String> hashtagList = new ArrayList<>();
-            for (RouteHashtags routeHashtag : head.getRouteHashtags()) {
-                hashtagList.add(routeHashtag.getHashtag().getTagName());
-            }
+        RouteFeedDto<RouteHeadDto> feed = new RouteFeedDto<>();
+        feed.setRoutes(toCardDtos(user.getId(), page.items()));
+        feed.setNextCursor(page.nextCursor());
+        return feed;
+    }
 
-            routeHeadDto.setTag(hashtagList);
-
-            List<RouteItemDto> dtoItemList = new ArrayList<>();
-            List<RouteItem> routeItemList = head.getData();
-
-            for (RouteItem item : routeItemList) {
-                RouteItemDto routeItemDto = new RouteItemDto();
-                routeItemDto.setId(item.getId());
-
-                Places places = item.getPlace();
-                PlacesDto placesDto = new PlacesDto(places.getContentid());
-                placesDto.setTitle(places.getTitle());
-                placesDto.setAddr1(places.getAddr1());
-                placesDto.setAddr2(places.getAddr2());
-                placesDto.setAreacode(places.getAreacode());
-                placesDto.setBooktour(places.getBooktour());
-                placesDto.setCat1(places.getCat1());
-                placesDto.setCat2(places.getCat2());
-                placesDto.setCat3(places.getCat3());
-                placesDto.setContenttypeid(places.getContenttypeid());
-                placesDto.setCreatedtime(places.getCreatedtime());
-                placesDto.setFirstimage(places.getFirstimage());
-                placesDto.setFirstimage2(places.getFirstimage2());
-                placesDto.setMapx(places.getMapx());
-                placesDto.setMapy(places.getMapy());
-                placesDto.setModifiedtime(places.getModifiedtime());
-                placesDto.setTel(places.getTel());
-                placesDto.setOverview(places.getOverview());
-                placesDto.setLastUpdated(places.getLastUpdated());
-
-                routeItemDto.setContentid(placesDto);
-                dtoItemList.add(routeItemDto);
-            }
+    /**
+     * 다른 사용자들의 공개 경로를 인기(hot) 점수 순으로 한 페이지씩 가져오는 메서드
+     *
+     * 순위는 HotRouteIndex에서 읽고, 해당 페이지의 경로 카드만 ID로 조회합니다.
+     *
+     * @param email  - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param cursor - 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size   - 페이지 크기 (1 ~ MAX_FEED_PAGE_SIZE 범위로 보정)
+     * @return 점수 내림차순 경로 목록과 다음 페이지 커서 (RouteFeedDto)
+     * @throws IllegalArgumentException - 커서 형식이 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public RouteFeedDto<RouteHeadDto> getHotRoutes(String email, String cursor, int size) {
+        User user = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("user not found"));
+        HotRouteCursor after = cursor == null || cursor.isEmpty() ? null : HotRouteCursor.decode(cursor);
+        HotRouteIndex.HotRoutePage page = hotRouteIndex.page(user.getId(), after, toFeedPageSize(size));
 
-            routeHeadDto.setData(dtoItemList);
-            routeHeadDtoList.add(routeHeadDto);
-        }
+        // 인덱스 순서대로 카드를 정렬 (인덱스 갱신 직후 삭제된 경로는 건너뜀)
+        List<RouteCard> cards = findCardsInOrder(page.routeHeadIds());
 
-        return routeHeadDtoList;
+        RouteFeedDto<RouteHeadDto> feed = new RouteFeedDto<>();
+        feed.setRoutes(toCardDtos(user.getId(), cards));
+        feed.setNextCursor(page.nextCursor());
+        return feed;
     }
 
-    @Transactional
-    public void updateRouteHead(RouteHeadDto routeHeadDto) {
-        RouteHead routeHead = routeHeadRepository.findById(routeHeadDto.getId())
-                .orElseThrow(() -> new RuntimeException("Route not found"));
+    /**
+     * 코스 이름, 본문, 지역, 해시태그, 장소 이름으로 공개 경로를 검색하는 메서드
+     *
+     * 관련도 순위는 RouteSearchIndex에서 계산하고, 해당 페이지의 경로 카드만 ID로 조회합니다.
+     *
+     * @param email  - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param query  - 검색어
+     * @param cursor - 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size   - 페이지 크기 (1 ~ MAX_FEED_PAGE_SIZE 범위로 보정)
+     * @return 관련도 순 경로 목록과 다음 페이지 커서 (RouteFeedDto)
+     * @throws IllegalArgumentException - 커서 형식이 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public RouteFeedDto<RouteHeadDto> searchRoutes(String email, String query, String cursor, int size) {
+        User user = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("user not found"));
+        RouteSearchCursor after = cursor == null || cursor.isEmpty() ? null : RouteSearchCursor.decode(cursor);
+        RouteSearchIndex.SearchPage page = routeSearchIndex.page(query, after, toFeedPageSize(size));
 
-        routeHead.setCourseName(routeHeadDto.getCourseName());
-        routeHead.setContent(routeHeadDto.getContent());
-        routeHead.setPublic(true);
+        // 색인 순서대로 카드를 정렬 (색인 갱신 직후 삭제된 경로는 건너뜀)
+        List<RouteCard> cards = findCardsInOrder(page.routeHeadIds());
 
-        List<String> tagList = routeHeadDto.getTag() != null ? routeHeadDto.getTag() : Collections.emptyList();
+        RouteFeedDto<RouteHeadDto> feed = new RouteFeedDto<>();
+        feed.setRoutes(toCardDtos(user.getId(), cards));
+        feed.setNextCursor(page.nextCursor());
+        return feed;
+    }
 
-        List<String> existingTags = hashtagRepository.findExistingTags(tagList);
+    /**
+     * 공개 경로 피드를 목록 요약 형태로 가져오는 메서드 (view=summary)
+     *
+     * @param email  - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param filter - 지역, 해시태그, 거리 필터 (비어 있으면 전체 공개 피드)
+     * @param cursor - 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size   - 페이지 크기 (1 ~ MAX_FEED_PAGE_SIZE 범위로 보정)
+     * @return 경로 요약 목록과 다음 페이지 커서 (RouteFeedDto)
+     * @throws IllegalArgumentException - 커서 형식이 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public RouteFeedDto<RouteSummaryDto> getRouteSummaries(String email, RouteFeedFilter filter, String cursor,
+            int size) {
+        User user = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("user not found"));
+        int pageSize = toFeedPageSize(size);
+        RouteFeedCursor after = toFeedCursor(cursor);
+
+        FeedPage<RouteSummaryDto> page;
+        if (filter.isEmpty()) {
+            Pageable limit = PageRequest.of(0, pageSize + 1);
+            List<RouteSummaryDto> rows = after == null
+                    ? routeHeadRepository.findPublicFeedSummaries(user.getId(), limit)
+                    : routeHeadRepository.findPublicFeedSummariesAfter(user.getId(), after.getCreateDate(),
+                            after.getId(), limit);
+            page = toFeedPage(rows, pageSize, row -> new RouteFeedCursor(row.getCreateDate(), row.getId()));
+        } else {
+            // 필터 조건은 경로 카드의 인덱스로 거른 뒤, 해당 경로만 ID로 조회
+            FeedPage<RouteCard> cardPage = toFeedPage(findFilteredCards(user.getId(), filter, after, pageSize + 1),
+                    pageSize, card -> new RouteFeedCursor(card.getCreateDate(), card.getRouteHeadId()));
+            List<Long> ids = cardPage.items().stream().map(RouteCard::getRouteHeadId).collect(Collectors.toList());
+            page = new FeedPage<>(findSummariesInOrder(ids), cardPage.nextCursor());
+        }
 
-        List<String> nonDuplicateTags = tagList.stream()
-                .filter(tag -> !existingTags.contains(tag))
-                .collect(Collectors.toList());
+        List<RouteSummaryDto> summaries = toSummaries(page.items(), true);
+        RouteViewerState viewerState = routeViewerStateResolver.resolve(user.getId(),
+                summaries.stream().map(RouteSummaryDto::getId).collect(Collectors.toList()));
+        for (RouteSummaryDto summary : summaries) {
+            summary.setBookmark(toBookmarkDto(viewerState.getBookmarkId(summary.getId())));
+            summary.setLike(toLikeDto(viewerState.getLikeId(summary.getId())));
+        }
 
-        List<Hashtag> newHashtags = nonDuplicateTags.stream()
-                .map(tag -> {
-                    Hashtag hashtag = new Hashtag();
-                    hashtag.setTagName(tag);
-                    return hashtag;
-                }).collect(Collectors.toList());
+        RouteFeedDto<RouteSummaryDto> feed = new RouteFeedDto<>();
+        feed.setRoutes(summaries);
+        feed.setNextCursor(page.nextCursor());
+        return feed;
+    }
 
-        hashtagRepository.saveAll(newHashtags);
+    /**
+     * 현재 사용자가 저장한 경로 목록을 요약 형태로 가져오는 메서드 (view=summary)
+     *
+     * @param email - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @return 사용자가 저장한 경로 요약 목록
+     */
+    @Transactional(readOnly = true)
+    public List<RouteSummaryDto> getMyRouteSummaries(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
 
-        List<Hashtag> allTags = hashtagRepository.findByTagNameIn(tagList);
-        List<RouteHashtags> routeHashtags = allTags.stream()
-                .map(hashtag -> {
-                    RouteHashtags routeHashtag = new RouteHashtags();
-                    routeHashtag.setRouteHead(routeHead);
-                    routeHashtag.setHashtag(hashtag);
-                    return routeHashtag;
-                }).collect(Collectors.toList());
+        return toSummaries(routeHeadRepository.findSummariesByUserId(user.getId()), false);
+    }
 
-        routeHashtagsRepository.deleteByRouteHeadId(routeHead.getId());
+    /**
+     * 사용자가 북마크한 경로 목록을 요약 형태로 가져오는 메서드 (view=summary)
+     *
+     * @param email - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @return 북마크한 경로 요약 목록
+     */
+    @Transactional(readOnly = true)
+    public List<RouteSummaryDto> routeGetBookmarkSummaries(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        Map<Long, Long> bookmarkIds = toIdsByRouteHeadId(
+                routeBookmarkRepository.findIdsAndRouteHeadIdsByUserId(user.getId()));
 
-        routeHashtagsRepository.saveAll(routeHashtags);
+        List<RouteSummaryDto> summaries = toSummaries(
+                findSummariesInOrder(new ArrayList<>(bookmarkIds.keySet())), true);
+        for (RouteSummaryDto summary : summaries) {
+            summary.setBookmark(toBookmarkDto(bookmarkIds.get(summary.getId())));
+        }
+        return summaries;
+    }
 
-        routeHead.setRouteHashtags(routeHashtags);
-        routeHeadRepository.save(routeHead);
+    /**
+     * 사용자가 좋아요한 경로 목록을 요약 형태로 가져오는 메서드 (view=summary)
+     *
+     * @param email - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @return 좋아요한 경로 요약 목록
+     */
+    @Transactional(readOnly = true)
+    public List<RouteSummaryDto> routeGetLikeSummaries(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        Map<Long, Long> likeIds = toIdsByRouteHeadId(
+                routeLikeRepository.findIdsAndRouteHeadIdsByUserId(user.getId()));
+
+        List<RouteSummaryDto> summaries = toSummaries(findSummariesInOrder(new ArrayList<>(likeIds.keySet())), true);
+        for (RouteSummaryDto summary : summaries) {
+            summary.setLike(toLikeDto(likeIds.get(summary.getId())));
+        }
+        return summaries;
     }
 
     @Transactional
-    public void updateLike(RouteHeadDto routeHeadDto) {
+    public void updateRouteHead(RouteHeadDto routeHeadDto) {
         RouteHead routeHead = routeHeadRepository.findById(routeHeadDto.getId())
-                .orElseThrow(() -> new RuntimeException("route not found"));
+                .orElseThrow(() -> new RuntimeException("Route not found"));
 
-        routeHead.setTotlike(routeHeadDto.getTotlike());
+        boolean publishing = !routeHead.isPublic();
+        routeHead.setCourseName(routeHeadDto.getCourseName());
+        routeHead.setContent(routeHeadDto.getContent());
+        routeHead.setPublic(true);
+
+        List<String> tagList = HashtagResolver.normalizeAll(
+                routeHeadDto.getTag() != null ? routeHeadDto.getTag() : Collections.emptyList());
+
+        // 자동완성 사용 수 갱신 대상 - 기존 해시태그와 새 해시태그
+        List<String> previousTags = toTagNames(routeHead.getRouteHashtags());
+        Set<String> changedTags = new HashSet<>(previousTags);
+        changedTags.addAll(tagList);
+        // 급상승 집계는 공개로 전환될 때 전체 해시태그를, 이미 공개된 경로를 수정할 때는 새로 붙은 해시태그만 반영
+        List<String> publishedTags = publishing ? tagList
+                : tagList.stream().filter(tag -> !previousTags.contains(tag)).collect(Collectors.toList());
+        AfterCommit.run(() -> {
+            hashtagSuggestIndex.refresh(changedTags);
+            recordTrending(publishedTags, TrendingHashtagCounter.PUBLISH_WEIGHT);
+        });
+
+        // 없는 해시태그는 생성하고 ID로 변환 (캐시에 있으면 DB 접근 없음)
+        Map<String, Long> tagIds = hashtagResolver.resolveIds(tagList);
+        syncRouteHashtags(routeHead, new ArrayList<>(tagIds.values()));
+
+        // 해시태그만 바뀐 경우에도 ETag가 바뀌도록 수정 시각을 갱신
+        routeHead.setUpdateDate(new Date());
         routeHeadRepository.save(routeHead);
+        routeCardService.refresh(routeHead);
+        routeDetailCache.evict(routeHead.getId());
+    }
 
+    /**
+     * 경로의 해시태그 연결을 요청된 해시태그 목록과 같아지도록 맞추는 메서드
+     *
+     * 기존 연결과 비교하여 빠진 해시태그는 DELETE 한 문장으로, 새 해시태그는 배치 INSERT로 처리하며
+     * 그대로 남는 해시태그는 표시 순서(orderNumber)가 바뀐 행만 갱신합니다.
+     *
+     * @param routeHead  - 해시태그를 바꿀 경로 헤드 (영속 상태)
+     * @param hashtagIds - 요청된 해시태그 ID 목록 (표시 순서)
+     */
+    private void syncRouteHashtags(RouteHead routeHead, List<Long> hashtagIds) {
+        List<RouteHashtags> current = routeHead.getRouteHashtags();
+        Set<Long> requested = new HashSet<>(hashtagIds);
+        Set<Long> existing = new HashSet<>();
+        List<Long> removedIds = new ArrayList<>();
+        for (RouteHashtags routeHashtag : current) {
+            Long hashtagId = routeHashtag.getHashtag().getId();
+            // 같은 해시태그가 중복 연결된 기존 데이터는 중복분을 삭제 대상으로 처리
+            if (!requested.contains(hashtagId) || !existing.add(hashtagId)) {
+                removedIds.add(hashtagId);
+            }
+        }
+
+        List<Long> addedIds = new ArrayList<>();
+        List<Integer> orderNumbers = new ArrayList<>();
+        for (int i = 0; i < hashtagIds.size(); i++) {
+            if (!existing.contains(hashtagIds.get(i))) {
+                addedIds.add(hashtagIds.get(i));
+                orderNumbers.add(i);
+            }
+        }
+
+        if (!removedIds.isEmpty()) {
+            routeHashtagsRepository.deleteByRouteHeadIdAndHashtagIdIn(routeHead.getId(), removedIds);
+            // 중복 연결은 DELETE로 모두 지워지므로 남길 해시태그라면 다시 추가
+            for (Long hashtagId : removedIds) {
+                if (requested.contains(hashtagId) && existing.remove(hashtagId)) {
+                    addedIds.add(hashtagId);
+                    orderNumbers.add(hashtagIds.indexOf(hashtagId));
+                }
+            }
+            current.removeIf(routeHashtag -> removedIds.contains(routeHashtag.getHashtag().getId()));
+        }
+
+        // 남는 연결 중 위치가 바뀐 행만 표시 순서를 갱신 (변경 감지로 해당 행만 UPDATE)
+        boolean reordered = false;
+        for (RouteHashtags routeHashtag : current) {
+            int orderNumber = hashtagIds.indexOf(routeHashtag.getHashtag().getId());
+            if (routeHashtag.getOrderNumber() != orderNumber) {
+                routeHashtag.setOrderNumber(orderNumber);
+                reordered = true;
+            }
+        }
+
+        if (!addedIds.isEmpty()) {
+            routeHashtagsRepository.insertAll(routeHead.getId(), addedIds, orderNumbers);
+            // 카드/캐시 직렬화에 쓰이도록 추가된 연결을 영속 상태로 컬렉션에 반영
+            current.addAll(routeHashtagsRepository.findWithHashtagByRouteHeadIdAndHashtagIdIn(routeHead.getId(),
+                    addedIds));
+        }
+
+        if (reordered || !addedIds.isEmpty()) {
+            // 직렬화 순서를 조회 시(@OrderBy)와 같게 맞춤
+            current.sort(Comparator.comparingInt(RouteHashtags::getOrderNumber).thenComparing(RouteHashtags::getId));
+        }
     }
 
     @Transactional
@@ -381,219 +672,295 @@ public class RouteService {
                 .orElseThrow(() -> new RuntimeException("route not found"));
         routeHead.setPublic(isPublic);
         routeHeadRepository.save(routeHead);
+        routeCardService.updatePublic(id, isPublic);
+        routeDetailCache.evict(id);
     }
 
     @Transactional
     public List<RouteHeadDto> routeGetBookmark(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        List<RouteBookmark> bookmarkList = routeBookmarkRepository.findAllByUser(user);
+        List<RouteBookmark> bookmarkList = routeBookmarkRepository.findAllWithRouteByUser(user);
+        routeGraphLoader.initialize(bookmarkList.stream().map(RouteBookmark::getRouteHead).collect(Collectors.toList()));
         List<RouteHeadDto> headList = new ArrayList<>();
         for (RouteBookmark bookmark : bookmarkList) {
-            RouteHead head = bookmark.getRouteHead();
-            RouteHeadDto headDto = new RouteHeadDto();
-            headDto.setId(head.getId());
-            headDto.setTown(head.getTown());
-            headDto.setCourseName(head.getCourseName());
-            headDto.setTotDistance(head.getTotDistance());
-            headDto.setContent(head.getContent());
-            headDto.setTotlike(head.getTotlike());
-            headDto.setCreateDate(head.getCreateDate());
-            headDto.setUpdateDate(head.getUpdateDate());
-            User routeUser = head.getUser();
-            UserDto routeUserDto = new UserDto();
-            routeUserDto.setId(routeUser.getId());
-            routeUserDto.setProfilePicture(routeUser.getProfilePicture());
-            routeUserDto.setName(routeUser.getName());
-            headDto.setUserId(routeUserDto);
-            headDto.setPublic(head.isPublic());
-            RouteBookmark routeBookmark = routeBookmarkRepository.findByRouteHeadAndUser(head, user);
-            RouteBookmarkDto routeBookmarkDto = new RouteBookmarkDto();
-
-            if (routeBookmark != null) {
-                routeBookmarkDto.setId(routeBookmark.getId());
-            }
+            RouteHeadDto headDto = routeHeadAssembler.toDtoWithAuthor(bookmark.getRouteHead());
 
-            headDto.setBookmark(routeBookmarkDto);
-
-            List<String> hashtagList = new ArrayList<>();
-            for (RouteHashtags routeHashtag : head.getRouteHashtags()) {
-                hashtagList.add(routeHashtag.getHashtag().getTagName());
-            }
+            // 순회 중인 북마크가 곧 사용자의 북마크이므로 다시 조회하지 않음
+            headDto.setBookmark(toBookmarkDto(bookmark.getId()));
 
-            headDto.setTag(hashtagList);
-
-            List<RouteItemDto> dtoItemList = new ArrayList<>();
-            List<RouteItem> routeItemList = head.getData();
-
-            for (RouteItem item : routeItemList) {
-                RouteItemDto routeItemDto = new RouteItemDto();
-                routeItemDto.setId(item.getId());
-
-                Places places = item.getPlace();
-                PlacesDto placesDto = new PlacesDto(places.getContentid());
-                placesDto.setTitle(places.getTitle());
-                placesDto.setAddr1(places.getAddr1());
-                placesDto.setAddr2(places.getAddr2());
-                placesDto.setAreacode(places.getAreacode());
-                placesDto.setBooktour(places.getBooktour());
-                placesDto.setCat1(places.getCat1());
-                placesDto.setCat2(places.getCat2());
-                placesDto.setCat3(places.getCat3());
-                placesDto.setContenttypeid(places.getContenttypeid());
-                placesDto.setCreatedtime(places.getCreatedtime());
-                placesDto.setFirstimage(places.getFirstimage());
-                placesDto.setFirstimage2(places.getFirstimage2());
-                placesDto.setMapx(places.getMapx());
-                placesDto.setMapy(places.getMapy());
-                placesDto.setModifiedtime(places.getModifiedtime());
-                placesDto.setTel(places.getTel());
-                placesDto.setOverview(places.getOverview());
-                placesDto.setLastUpdated(places.getLastUpdated());
-
-                routeItemDto.setContentid(placesDto);
-                dtoItemList.add(routeItemDto);
-            }
-
-            headDto.setData(dtoItemList);
             headList.add(headDto);
         }
 
         return headList;
     }
 
+    /**
+     * 경로를 북마크하는 메서드 (이미 북마크한 경우 아무것도 바꾸지 않음)
+     *
+     * 경로와 사용자 엔티티를 읽지 않고 INSERT IGNORE 한 번과 상태 조회 한 번으로 처리합니다.
+     *
+     * @param email - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param id    - 경로 ID
+     * @return 북마크 ID와 경로의 북마크 수
+     */
     @Transactional
-    public void routePostBookmark(String email, Long id) {
-        RouteHead routeHead = routeHeadRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("route not found"));
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("user not found"));
-
-        RouteBookmark routebookmark = new RouteBookmark();
-        routebookmark.setRouteHead(routeHead);
-        routebookmark.setUser(user);
-        routeBookmarkRepository.save(routebookmark);
+    public RouteToggleDto routePostBookmark(String email, Long id) {
+        Long userId = userIdCache.getId(email);
+        int inserted = routeBookmarkRepository.insertIgnore(id, userId);
+        RouteToggleDto result = toToggleDto(routeBookmarkRepository.findToggleState(id, userId),
+                persisted -> routeEngagementCounter.withPendingBookmarks(id, persisted) + inserted);
+
+        if (inserted > 0) {
+            Long bookmarkId = result.getId();
+            List<String> tagNames = findTagNames(id);
+            AfterCommit.run(() -> {
+                routeEngagementCounter.addBookmark(id, 1);
+                routeMembershipCache.addBookmark(userId, id, bookmarkId);
+                recordTrending(tagNames, TrendingHashtagCounter.BOOKMARK_WEIGHT);
+            });
+        }
+        return result;
     }
 
+    /**
+     * 경로 북마크를 취소하는 메서드 (북마크하지 않은 경우 아무것도 바꾸지 않음)
+     *
+     * @param email - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param id    - 경로 ID
+     * @return 취소된 상태와 경로의 북마크 수
+     */
     @Transactional
-    public void routeDeleteBookmark(String email, Long id) {
-        RouteHead routeHead = routeHeadRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("route not found"));
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("user not found"));
-        RouteBookmark routebookmark = routeBookmarkRepository.findByRouteHeadAndUser(routeHead, user);
-
-        routeBookmarkRepository.delete(routebookmark);
+    public RouteToggleDto routeDeleteBookmark(String email, Long id) {
+        Long userId = userIdCache.getId(email);
+        int deleted = routeBookmarkRepository.deleteByRouteHeadIdAndUserId(id, userId);
+        RouteToggleDto result = toToggleDto(routeBookmarkRepository.findToggleState(id, userId),
+                persisted -> routeEngagementCounter.withPendingBookmarks(id, persisted) - deleted);
+
+        if (deleted > 0) {
+            AfterCommit.run(() -> {
+                routeEngagementCounter.addBookmark(id, -deleted);
+                routeMembershipCache.removeBookmark(userId, id);
+            });
+        }
+        return result;
     }
 
     @Transactional
     public List<RouteHeadDto> routeGetLike(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        List<RouteLike> likeList = routeLikeRepository.findAllByUser(user);
+        List<RouteLike> likeList = routeLikeRepository.findAllWithRouteByUser(user);
+        routeGraphLoader.initialize(likeList.stream().map(RouteLike::getRouteHead).collect(Collectors.toList()));
         List<RouteHeadDto> headList = new ArrayList<>();
-
         for (RouteLike like : likeList) {
-            RouteHead head = like.getRouteHead();
-            RouteHeadDto headDto = new RouteHeadDto();
-            headDto.setId(head.getId());
-            headDto.setTown(head.getTown());
-            headDto.setCourseName(head.getCourseName());
-            headDto.setTotDistance(head.getTotDistance());
-            headDto.setContent(head.getContent());
-            headDto.setTotlike(head.getTotlike());
-            headDto.setCreateDate(head.getCreateDate());
-            headDto.setUpdateDate(head.getUpdateDate());
-
-            // Route 작성자 정보 설정
-            User routeUser = head.getUser();
-            UserDto routeUserDto = new UserDto();
-            routeUserDto.setId(routeUser.getId());
-            routeUserDto.setProfilePicture(routeUser.getProfilePicture());
-            routeUserDto.setName(routeUser.getName());
-            headDto.setUserId(routeUserDto);
-            headDto.setPublic(head.isPublic());
-
-            // 좋아요 상태 설정
-            RouteLike routeLike = routeLikeRepository.findByRouteHeadAndUser(head, user);
-            RouteLikeDto routeLikeDto = new RouteLikeDto();
-
-            if (routeLike != null) {
-                routeLikeDto.setId(routeLike.getId());
-            }
-
-            headDto.setLike(routeLikeDto);
+            RouteHeadDto headDto = routeHeadAssembler.toDtoWithAuthor(like.getRouteHead());
 
-            // 해시태그 리스트 설정
-            List<String> hashtagList = new ArrayList<>();
-            for (RouteHashtags routeHashtag : head.getRouteHashtags()) {
-                hashtagList.add(routeHashtag.getHashtag().getTagName());
-            }
-
-            headDto.setTag(hashtagList);
-
-            // 경로 아이템 설정
-            List<RouteItemDto> dtoItemList = new ArrayList<>();
-            List<RouteItem> routeItemList = head.getData();
-
-            for (RouteItem item : routeItemList) {
-                RouteItemDto routeItemDto = new RouteItemDto();
-                routeItemDto.setId(item.getId());
-
-                Places places = item.getPlace();
-                PlacesDto placesDto = new PlacesDto(places.getContentid());
-                placesDto.setTitle(places.getTitle());
-                placesDto.setAddr1(places.getAddr1());
-                placesDto.setAddr2(places.getAddr2());
-                placesDto.setAreacode(places.getAreacode());
-                placesDto.setBooktour(places.getBooktour());
-                placesDto.setCat1(places.getCat1());
-                placesDto.setCat2(places.getCat2());
-                placesDto.setCat3(places.getCat3());
-                placesDto.setContenttypeid(places.getContenttypeid());
-                placesDto.setCreatedtime(places.getCreatedtime());
-                placesDto.setFirstimage(places.getFirstimage());
-                placesDto.setFirstimage2(places.getFirstimage2());
-                placesDto.setMapx(places.getMapx());
-                placesDto.setMapy(places.getMapy());
-                placesDto.setModifiedtime(places.getModifiedtime());
-                placesDto.setTel(places.getTel());
-                placesDto.setOverview(places.getOverview());
-                placesDto.setLastUpdated(places.getLastUpdated());
-
-                routeItemDto.setContentid(placesDto);
-                dtoItemList.add(routeItemDto);
-            }
+            // 좋아요 상태 설정 (순회 중인 좋아요가 곧 사용자의 좋아요)
+            headDto.setLike(toLikeDto(like.getId()));
 
-            headDto.setData(dtoItemList);
             headList.add(headDto);
         }
 
         return headList;
     }
 
+    /**
+     * 경로에 좋아요를 추가하는 메서드 (이미 좋아요한 경우 아무것도 바꾸지 않음)
+     *
+     * 경로와 사용자 엔티티를 읽지 않고 INSERT IGNORE 한 번과 상태 조회 한 번으로 처리하며,
+     * 좋아요 수는 커밋 후 RouteEngagementCounter에 더해집니다.
+     *
+     * @param email - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param id    - 경로 ID
+     * @return 좋아요 ID와 경로의 좋아요 수
+     */
     @Transactional
-    public void routePostLike(String email, Long id) {
-        RouteHead routeHead = routeHeadRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Route not found"));
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        RouteLike routeLike = new RouteLike();
-        routeLike.setRouteHead(routeHead);
-        routeLike.setUser(user);
-        routeLikeRepository.save(routeLike);
+    public RouteToggleDto routePostLike(String email, Long id) {
+        Long userId = userIdCache.getId(email);
+        int inserted = routeLikeRepository.insertIgnore(id, userId);
+        RouteToggleDto result = toToggleDto(routeLikeRepository.findToggleState(id, userId),
+                persisted -> routeEngagementCounter.withPendingLikes(id, persisted) + inserted);
+
+        if (inserted > 0) {
+            Long likeId = result.getId();
+            List<String> tagNames = findTagNames(id);
+            AfterCommit.run(() -> {
+                routeEngagementCounter.addLike(id, 1);
+                routeMembershipCache.addLike(userId, id, likeId);
+                recordTrending(tagNames, TrendingHashtagCounter.LIKE_WEIGHT);
+            });
+        }
+        return result;
     }
 
+    /**
+     * 경로 좋아요를 취소하는 메서드 (좋아요하지 않은 경우 아무것도 바꾸지 않음)
+     *
+     * @param email - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param id    - 경로 ID
+     * @return 취소된 상태와 경로의 좋아요 수
+     */
     @Transactional
-    public void routeDeleteLike(String email, Long id) {
-        RouteHead routeHead = routeHeadRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Route not found"));
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        RouteLike routeLike = routeLikeRepository.findByRouteHeadAndUser(routeHead, user);
+    public RouteToggleDto routeDeleteLike(String email, Long id) {
+        Long userId = userIdCache.getId(email);
+        int deleted = routeLikeRepository.deleteByRouteHeadIdAndUserId(id, userId);
+        RouteToggleDto result = toToggleDto(routeLikeRepository.findToggleState(id, userId),
+                persisted -> routeEngagementCounter.withPendingLikes(id, persisted) - deleted);
+
+        if (deleted > 0) {
+            AfterCommit.run(() -> {
+                routeEngagementCounter.addLike(id, -deleted);
+                routeMembershipCache.removeLike(userId, id);
+            });
+        }
+        return result;
+    }
+
+    // (좋아요/북마크 수, 사용자의 좋아요/북마크 ID) 행을 토글 결과로 변환
+    // 이번 요청의 증감분은 커밋 후에 카운터에 더해지므로 count 함수에서 미리 반영
+    private RouteToggleDto toToggleDto(List<Object[]> rows, Function<Long, Long> count) {
+        if (rows.isEmpty()) {
+            throw new RuntimeException("Route not found");
+        }
+        Object[] row = rows.get(0);
+        Long persisted = row[0] == null ? 0L : ((Number) row[0]).longValue();
+
+        RouteToggleDto toggleDto = new RouteToggleDto();
+        toggleDto.setId((Long) row[1]);
+        toggleDto.setActive(row[1] != null);
+        toggleDto.setCount(Math.max(0, count.apply(persisted)));
+        return toggleDto;
+    }
+
+    // 공개 피드 한 페이지 분량의 항목과 다음 페이지 커서
+    private record FeedPage<T>(List<T> items, String nextCursor) {
+    }
+
+    private List<RouteCard> findFilteredCards(Long userId, RouteFeedFilter filter, RouteFeedCursor after, int limit) {
+        if (after == null) {
+            return routeCardRepository.findPublicFeed(userId, filter, null, null, limit);
+        }
+        return routeCardRepository.findPublicFeed(userId, filter, after.getCreateDate(), after.getId(), limit);
+    }
+
+    // 급상승 집계에 반영할 경로의 해시태그 이름 (토글 트랜잭션 안에서 조회)
+    private List<String> findTagNames(Long routeHeadId) {
+        return routeHashtagsRepository.findTagNamesByRouteHeadIdIn(List.of(routeHeadId)).stream()
+                .map(row -> (String) row[1])
+                .collect(Collectors.toList());
+    }
+
+    // 해시태그를 급상승 집계에 반영 (커밋 후 호출 - 실패해도 이미 커밋된 토글 응답에는 영향을 주지 않음)
+    private void recordTrending(List<String> tagNames, int weight) {
+        if (tagNames.isEmpty()) {
+            return;
+        }
+        try {
+            trendingHashtagCounter.record(tagNames, weight);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record trending hashtags {}", tagNames, e);
+        }
+    }
+
+    private List<String> toTagNames(List<RouteHashtags> routeHashtags) {
+        if (routeHashtags == null) {
+            return Collections.emptyList();
+        }
+        return routeHashtags.stream().map(routeHashtag -> routeHashtag.getHashtag().getTagName())
+                .collect(Collectors.toList());
+    }
+
+    private List<RouteCard> findCardsInOrder(List<Long> routeHeadIds) {
+        Map<Long, RouteCard> cardsById = routeCardRepository.findAllById(routeHeadIds).stream()
+                .collect(Collectors.toMap(RouteCard::getRouteHeadId, card -> card));
+        List<RouteCard> cards = new ArrayList<>();
+        for (Long routeHeadId : routeHeadIds) {
+            RouteCard card = cardsById.get(routeHeadId);
+            if (card != null && card.isPublic()) {
+                cards.add(card);
+            }
+        }
+        return cards;
+    }
+
+    // 경로 카드를 응답 DTO로 변환하고 현재 사용자의 북마크/좋아요 상태를 채움
+    private List<RouteHeadDto> toCardDtos(Long userId, List<RouteCard> cards) {
+        RouteViewerState viewerState = routeViewerStateResolver.resolve(userId,
+                cards.stream().map(RouteCard::getRouteHeadId).collect(Collectors.toList()));
+
+        List<RouteHeadDto> routeHeadDtoList = routeCardService.toDtos(cards);
+        for (RouteHeadDto routeHeadDto : routeHeadDtoList) {
+            routeHeadDto.setBookmark(toBookmarkDto(viewerState.getBookmarkId(routeHeadDto.getId())));
+            routeHeadDto.setLike(toLikeDto(viewerState.getLikeId(routeHeadDto.getId())));
+        }
+        return routeHeadDtoList;
+    }
+
+    private int toFeedPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+    }
+
+    // 첫 페이지이면 null
+    private RouteFeedCursor toFeedCursor(String cursor) {
+        return cursor == null || cursor.isEmpty() ? null : RouteFeedCursor.decode(cursor);
+    }
 
-        routeLikeRepository.delete(routeLike);
+    /**
+     * 페이지 크기보다 한 건 더 조회한 결과를 한 페이지와 다음 페이지 커서로 나누는 메서드
+     */
+    private <T> FeedPage<T> toFeedPage(List<T> rows, int pageSize, Function<T, RouteFeedCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new FeedPage<>(rows, null);
+        }
+
+        List<T> items = rows.subList(0, pageSize);
+        return new FeedPage<>(items, cursorOf.apply(items.get(pageSize - 1)).encode());
+    }
+
+    // ID 순서대로 경로 요약 조회 (중간에 삭제된 경로는 제외)
+    private List<RouteSummaryDto> findSummariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, RouteSummaryDto> rowsById = routeHeadRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(RouteSummaryDto::getId, row -> row));
+        return ids.stream().map(rowsById::get).filter(row -> row != null).collect(Collectors.toList());
+    }
+
+    // 경로 아이템/해시태그를 프로젝션으로 조회하여 목록 요약을 채움
+    private List<RouteSummaryDto> toSummaries(List<RouteSummaryDto> rows, boolean withAuthor) {
+        List<Long> ids = rows.stream().map(RouteSummaryDto::getId).collect(Collectors.toList());
+        Map<Long, List<String>> tagNames = routeGraphLoader.loadTagNames(ids);
+        Map<Long, List<RouteStopSummaryDto>> stops = routeGraphLoader.loadStopSummaries(ids);
+
+        List<RouteSummaryDto> summaries = new ArrayList<>();
+        for (RouteSummaryDto row : rows) {
+            summaries.add(routeHeadAssembler.toSummaryDto(row,
+                    tagNames.getOrDefault(row.getId(), Collections.emptyList()),
+                    stops.getOrDefault(row.getId(), Collections.emptyList()), withAuthor));
+        }
+        return summaries;
+    }
+
+    // (좋아요/북마크 ID, 경로 ID) 행을 조회 순서를 유지한 경로 ID -> 좋아요/북마크 ID로 변환
+    private static Map<Long, Long> toIdsByRouteHeadId(List<Object[]> rows) {
+        Map<Long, Long> idsByRouteHeadId = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            idsByRouteHeadId.putIfAbsent((Long) row[1], (Long) row[0]);
+        }
+        return idsByRouteHeadId;
+    }
+
+    private RouteBookmarkDto toBookmarkDto(Long bookmarkId) {
+        RouteBookmarkDto routeBookmarkDto = new RouteBookmarkDto();
+        routeBookmarkDto.setId(bookmarkId);
+        return routeBookmarkDto;
     }
 
-}
\ No newline at end of file
+    private RouteLikeDto toLikeDto(Long likeId) {
+        RouteLikeDto routeLikeDto = new RouteLikeDto();
+        routeLikeDto.setId(likeId);
+        return routeLikeDto;
+    }
+}
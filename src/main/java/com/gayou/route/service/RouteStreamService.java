@@ -0,0 +1,180 @@
+package com.gayou.route.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gayou.auth.model.User;
+import com.gayou.auth.repository.UserRepository;
+import com.gayou.route.dto.RouteBookmarkDto;
+import com.gayou.route.dto.RouteHeadDto;
+import com.gayou.route.dto.RouteLikeDto;
+import com.gayou.route.model.RouteBookmark;
+import com.gayou.route.model.RouteHead;
+import com.gayou.route.model.RouteLike;
+import com.gayou.route.repository.RouteBookmarkRepository;
+import com.gayou.route.repository.RouteHeadRepository;
+import com.gayou.route.repository.RouteLikeRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 경로 목록을 일정 크기의 묶음으로 나누어 전달하는 서비스 (스트리밍 응답용)
+ *
+ * 묶음마다 짧은 읽기 전용 트랜잭션에서 키셋으로 조회하고 DTO로 조립한 뒤, 트랜잭션 밖에서 sink에 넘깁니다.
+ * 한 요청이 메모리에 들고 있는 경로는 목록 크기와 관계없이 최대 STREAM_CHUNK_SIZE개이며,
+ * 응답을 쓰는 동안에는 DB 커넥션을 점유하지 않습니다.
+ */
+@Service
+public class RouteStreamService {
+
+    // 한 번에 조회하고 조립하는 경로 수
+    private static final int STREAM_CHUNK_SIZE = 50;
+
+    private final RouteHeadRepository routeHeadRepository;
+    private final RouteBookmarkRepository routeBookmarkRepository;
+    private final RouteLikeRepository routeLikeRepository;
+    private final UserRepository userRepository;
+    private final RouteGraphLoader routeGraphLoader;
+    private final RouteHeadAssembler routeHeadAssembler;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public RouteStreamService(RouteHeadRepository routeHeadRepository,
+            RouteBookmarkRepository routeBookmarkRepository, RouteLikeRepository routeLikeRepository,
+            UserRepository userRepository, RouteGraphLoader routeGraphLoader, RouteHeadAssembler routeHeadAssembler,
+            EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.routeHeadRepository = routeHeadRepository;
+        this.routeBookmarkRepository = routeBookmarkRepository;
+        this.routeLikeRepository = routeLikeRepository;
+        this.userRepository = userRepository;
+        this.routeGraphLoader = routeGraphLoader;
+        this.routeHeadAssembler = routeHeadAssembler;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 현재 사용자가 저장한 경로를 최신순으로 묶음 단위로 전달하는 메서드
+     *
+     * @param email - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param sink  - 조립된 경로 묶음을 받을 함수 (트랜잭션 밖에서 호출됨)
+     */
+    public void streamMyRoutes(String email, Consumer<List<RouteHeadDto>> sink) {
+        Long userId = findUserId(email);
+
+        Long beforeId = Long.MAX_VALUE;
+        while (beforeId != null) {
+            Chunk chunk = readChunk(lastId -> {
+                List<RouteHead> heads = routeHeadRepository.findByUserIdBefore(userId, lastId,
+                        PageRequest.of(0, STREAM_CHUNK_SIZE));
+                routeGraphLoader.initialize(heads);
+
+                List<RouteHeadDto> routes = new ArrayList<>();
+                for (RouteHead head : heads) {
+                    routes.add(routeHeadAssembler.toDto(head));
+                }
+                return new Chunk(routes, heads.isEmpty() ? null : heads.get(heads.size() - 1).getId());
+            }, beforeId);
+
+            beforeId = emit(chunk, sink);
+        }
+    }
+
+    /**
+     * 현재 사용자가 북마크한 경로를 북마크 순서대로 묶음 단위로 전달하는 메서드
+     *
+     * @param email - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param sink  - 조립된 경로 묶음을 받을 함수 (트랜잭션 밖에서 호출됨)
+     */
+    public void streamBookmarks(String email, Consumer<List<RouteHeadDto>> sink) {
+        Long userId = findUserId(email);
+
+        Long afterId = 0L;
+        while (afterId != null) {
+            Chunk chunk = readChunk(lastId -> {
+                List<RouteBookmark> bookmarks = routeBookmarkRepository.findWithRouteByUserIdAfter(userId, lastId,
+                        PageRequest.of(0, STREAM_CHUNK_SIZE));
+                routeGraphLoader.initialize(
+                        bookmarks.stream().map(RouteBookmark::getRouteHead).collect(Collectors.toList()));
+
+                List<RouteHeadDto> routes = new ArrayList<>();
+                for (RouteBookmark bookmark : bookmarks) {
+                    RouteHeadDto headDto = routeHeadAssembler.toDtoWithAuthor(bookmark.getRouteHead());
+                    RouteBookmarkDto bookmarkDto = new RouteBookmarkDto();
+                    bookmarkDto.setId(bookmark.getId());
+                    headDto.setBookmark(bookmarkDto);
+                    routes.add(headDto);
+                }
+                return new Chunk(routes, bookmarks.isEmpty() ? null : bookmarks.get(bookmarks.size() - 1).getId());
+            }, afterId);
+
+            afterId = emit(chunk, sink);
+        }
+    }
+
+    /**
+     * 현재 사용자가 좋아요한 경로를 좋아요 순서대로 묶음 단위로 전달하는 메서드
+     *
+     * @param email - 현재 인증된 사용자의 사용자 이메일 (JWT 토큰에서 추출된 값)
+     * @param sink  - 조립된 경로 묶음을 받을 함수 (트랜잭션 밖에서 호출됨)
+     */
+    public void streamLikes(String email, Consumer<List<RouteHeadDto>> sink) {
+        Long userId = findUserId(email);
+
+        Long afterId = 0L;
+        while (afterId != null) {
+            Chunk chunk = readChunk(lastId -> {
+                List<RouteLike> likes = routeLikeRepository.findWithRouteByUserIdAfter(userId, lastId,
+                        PageRequest.of(0, STREAM_CHUNK_SIZE));
+                routeGraphLoader.initialize(likes.stream().map(RouteLike::getRouteHead).collect(Collectors.toList()));
+
+                List<RouteHeadDto> routes = new ArrayList<>();
+                for (RouteLike like : likes) {
+                    RouteHeadDto headDto = routeHeadAssembler.toDtoWithAuthor(like.getRouteHead());
+                    RouteLikeDto likeDto = new RouteLikeDto();
+                    likeDto.setId(like.getId());
+                    headDto.setLike(likeDto);
+                    routes.add(headDto);
+                }
+                return new Chunk(routes, likes.isEmpty() ? null : likes.get(likes.size() - 1).getId());
+            }, afterId);
+
+            afterId = emit(chunk, sink);
+        }
+    }
+
+    // 조립된 경로 묶음과 다음 묶음 조회 기준 ID (더 이상 없으면 null)
+    private record Chunk(List<RouteHeadDto> routes, Long lastId) {
+    }
+
+    private Long findUserId(String email) {
+        return readOnlyTransaction.execute(status -> userRepository.findByEmail(email)
+                .map(User::getId)
+                .orElseThrow(() -> new RuntimeException("User not found")));
+    }
+
+    private Chunk readChunk(Function<Long, Chunk> reader, Long lastId) {
+        return readOnlyTransaction.execute(status -> {
+            Chunk chunk = reader.apply(lastId);
+            // 요청 단위 EntityManager(open-in-view)가 묶여 있어도 이전 묶음의 엔티티가 쌓이지 않도록 비움
+            entityManager.clear();
+            return chunk;
+        });
+    }
+
+    private Long emit(Chunk chunk, Consumer<List<RouteHeadDto>> sink) {
+        if (!chunk.routes().isEmpty()) {
+            sink.accept(chunk.routes());
+        }
+        return chunk.routes().size() < STREAM_CHUNK_SIZE ? null : chunk.lastId();
+    }
+}
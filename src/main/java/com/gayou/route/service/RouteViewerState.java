@@ -0,0 +1,45 @@
+package com.gayou.route.service;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 조회 중인 사용자 기준의 경로별 북마크/좋아요 상태
+ *
+ * 경로 ID를 키로 하여 해당 사용자가 남긴 북마크 ID, 좋아요 ID를 보관합니다.
+ */
+public class RouteViewerState {
+
+    private static final RouteViewerState EMPTY = new RouteViewerState(Collections.emptyMap(),
+            Collections.emptyMap());
+
+    private final Map<Long, Long> bookmarkIds;
+    private final Map<Long, Long> likeIds;
+
+    public RouteViewerState(Map<Long, Long> bookmarkIds, Map<Long, Long> likeIds) {
+        this.bookmarkIds = bookmarkIds;
+        this.likeIds = likeIds;
+    }
+
+    public static RouteViewerState empty() {
+        return EMPTY;
+    }
+
+    public boolean isBookmarked(Long routeHeadId) {
+        return bookmarkIds.containsKey(routeHeadId);
+    }
+
+    public boolean isLiked(Long routeHeadId) {
+        return likeIds.containsKey(routeHeadId);
+    }
+
+    // 북마크하지 않은 경로이면 null
+    public Long getBookmarkId(Long routeHeadId) {
+        return bookmarkIds.get(routeHeadId);
+    }
+
+    // 좋아요하지 않은 경로이면 null
+    public Long getLikeId(Long routeHeadId) {
+        return likeIds.get(routeHeadId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.gayou.route.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 경로 목록에 대한 사용자의 북마크/좋아요 여부를 한꺼번에 조회하는 컴포넌트
+ *
+ * 경로마다 DB를 조회하는 대신 RouteMembershipCache에 보관된 사용자의 좋아요/북마크 목록에서 찾으므로,
+ * 사용자의 목록이 캐시에 있으면 페이지 전체의 상태를 쿼리 없이 채웁니다.
+ */
+@Component
+public class RouteViewerStateResolver {
+
+    private final RouteMembershipCache routeMembershipCache;
+
+    public RouteViewerStateResolver(RouteMembershipCache routeMembershipCache) {
+        this.routeMembershipCache = routeMembershipCache;
+    }
+
+    /**
+     * 사용자의 경로별 북마크/좋아요 상태를 조회하는 메서드
+     *
+     * @param userId       - 조회 중인 사용자의 ID
+     * @param routeHeadIds - 상태를 확인할 경로 ID 목록 (한 페이지 분량)
+     * @return 경로별 북마크 ID, 좋아요 ID를 담은 RouteViewerState
+     */
+    public RouteViewerState resolve(Long userId, Collection<Long> routeHeadIds) {
+        if (routeHeadIds.isEmpty()) {
+            return RouteViewerState.empty();
+        }
+
+        Map<Long, Long> bookmarkIds = new HashMap<>();
+        Map<Long, Long> likeIds = new HashMap<>();
+        for (Long routeHeadId : routeHeadIds) {
+            Long bookmarkId = routeMembershipCache.getBookmarkId(userId, routeHeadId);
+            if (bookmarkId != null) {
+                bookmarkIds.put(routeHeadId, bookmarkId);
+            }
+            Long likeId = routeMembershipCache.getLikeId(userId, routeHeadId);
+            if (likeId != null) {
+                likeIds.put(routeHeadId, likeId);
+            }
+        }
+
+        return new RouteViewerState(bookmarkIds, likeIds);
+    }
+}
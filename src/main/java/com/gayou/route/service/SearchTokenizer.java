@@ -0,0 +1,60 @@
+package com.gayou.route.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 경로 검색용 토크나이저
+ *
+ * NFKC 정규화와 소문자 변환 후 글자/숫자 구간으로 나누고,
+ * 한글 구간은 띄어쓰기와 조사에 관계없이 부분 일치하도록 2-gram으로, 그 외 구간은 단어 그대로 토큰으로 만듭니다.
+ * 예) "서울역맛집 tour" -> [서울, 울역, 역맛, 맛집, tour]
+ */
+final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        boolean hangulRun = false;
+        for (int i = 0; i <= normalized.length(); i++) {
+            char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+            boolean wordChar = Character.isLetterOrDigit(c);
+            boolean hangul = isHangulSyllable(c);
+
+            // 구간이 끝났거나 한글/비한글이 바뀌면 지금까지의 구간을 토큰으로 만듦
+            if (start >= 0 && (!wordChar || hangul != hangulRun)) {
+                addRun(tokens, normalized.substring(start, i), hangulRun);
+                start = -1;
+            }
+            if (wordChar && start < 0) {
+                start = i;
+                hangulRun = hangul;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addRun(List<String> tokens, String run, boolean hangul) {
+        if (!hangul || run.length() == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 2 <= run.length(); i++) {
+            tokens.add(run.substring(i, i + 2));
+        }
+    }
+
+    static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -0,0 +1,78 @@
+package com.gayou.hashtag.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.gayou.hashtag.dto.HashtagSuggestionDto;
+import com.gayou.hashtag.repository.HashtagRepository;
+
+class HashtagSuggestIndexTest {
+
+    // 초성이 ㅅㅇ이지만 "서"로 시작하지 않는, 서울* 해시태그보다 많이 쓰인 해시태그 수 (TOP_K보다 많음)
+    private static final int POPULAR_COUNT = HashtagSuggestIndex.TOP_K + 2;
+
+    private HashtagRepository hashtagRepository;
+    private HashtagSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < POPULAR_COUNT; i++) {
+            rows.add(new Object[] { "상어" + i, 100L + i });
+        }
+        rows.add(new Object[] { "서울맛집", 5L });
+        rows.add(new Object[] { "서울여행", 3L });
+        rows.add(new Object[] { "서유럽", 2L });
+        rows.add(new Object[] { "서대문", 50L });
+
+        hashtagRepository = mock(HashtagRepository.class);
+        when(hashtagRepository.findAllTagUsage()).thenReturn(rows);
+        index = new HashtagSuggestIndex(hashtagRepository);
+        index.rebuild();
+    }
+
+    @Test
+    void mixedSyllableAndChoseongQueryIsNotHiddenByPopularChoseongMatches() {
+        // ㅅㅇ 해시태그가 초성 트라이의 상위 목록을 모두 차지해도 "서ㅇ"에 맞는 해시태그는 모두 나와야 함
+        assertThat(tagNames(index.suggest("서ㅇ", HashtagSuggestIndex.TOP_K)))
+                .containsExactly("서울맛집", "서울여행", "서유럽");
+        assertThat(tagNames(index.suggest("#서울", HashtagSuggestIndex.TOP_K)))
+                .containsExactly("서울맛집", "서울여행");
+    }
+
+    @Test
+    void choseongOnlyQueryReturnsMostUsedTags() {
+        List<HashtagSuggestionDto> suggestions = index.suggest("ㅅㅇ", 3);
+
+        assertThat(tagNames(suggestions)).containsExactly("상어11", "상어10", "상어9");
+        assertThat(suggestions.get(0).getCount()).isEqualTo(111L);
+        assertThat(tagNames(index.suggest("ㅅㄷ", HashtagSuggestIndex.TOP_K))).containsExactly("서대문");
+    }
+
+    @Test
+    void refreshUpdatesRankingOfChangedTag() {
+        when(hashtagRepository.findTagUsageByTagNameIn(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[] { "서유럽", 1000L }));
+
+        index.refresh(List.of("서유럽"));
+
+        List<HashtagSuggestionDto> mixed = index.suggest("서ㅇ", HashtagSuggestIndex.TOP_K);
+        assertThat(tagNames(mixed)).containsExactly("서유럽", "서울맛집", "서울여행");
+        assertThat(mixed.get(0).getCount()).isEqualTo(1000L);
+        // 이전 사용 수의 항목은 남지 않아야 함
+        List<HashtagSuggestionDto> choseong = index.suggest("ㅅㅇ", HashtagSuggestIndex.TOP_K);
+        assertThat(tagNames(choseong)).startsWith("서유럽").doesNotHaveDuplicates();
+    }
+
+    private static List<String> tagNames(List<HashtagSuggestionDto> suggestions) {
+        return suggestions.stream().map(HashtagSuggestionDto::getTagName).toList();
+    }
+}
@@ -0,0 +1,174 @@
+package com.gayou.route.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.gayou.auth.model.User;
+import com.gayou.hashtag.model.Hashtag;
+import com.gayou.places.model.Places;
+import com.gayou.route.dto.RouteStopSummaryDto;
+import com.gayou.route.dto.RouteSummaryDto;
+import com.gayou.route.model.RouteHashtags;
+import com.gayou.route.model.RouteHead;
+import com.gayou.route.model.RouteItem;
+import com.gayou.route.repository.RouteHeadRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@Import(RouteGraphLoader.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:route-graph;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class RouteGraphLoaderTest {
+
+    private static final int ROUTE_COUNT = 12;
+    private static final int ITEMS_PER_ROUTE = 4;
+    private static final int TAGS_PER_ROUTE = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RouteHeadRepository routeHeadRepository;
+
+    @Autowired
+    private RouteGraphLoader routeGraphLoader;
+
+    private Long viewerId;
+
+    @BeforeEach
+    void setUp() {
+        User viewer = entityManager.persist(user("viewer@gayou.com"));
+        viewerId = viewer.getId();
+
+        List<Places> places = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ROUTE * 2; i++) {
+            Places place = new Places();
+            place.setContentid(1000 + i);
+            place.setTitle("place-" + i);
+            places.add(entityManager.persist(place));
+        }
+
+        List<Hashtag> hashtags = new ArrayList<>();
+        for (int i = 0; i < TAGS_PER_ROUTE * 2; i++) {
+            Hashtag hashtag = new Hashtag();
+            hashtag.setTagName("tag-" + i);
+            hashtags.add(entityManager.persist(hashtag));
+        }
+
+        for (int r = 0; r < ROUTE_COUNT; r++) {
+            User author = entityManager.persist(user("author" + r + "@gayou.com"));
+
+            RouteHead head = new RouteHead();
+            head.setUser(author);
+            head.setTown("town-" + r);
+            head.setCreateDate(new Date(1_700_000_000_000L + r));
+            head.setPublic(true);
+            entityManager.persist(head);
+
+            for (int i = 0; i < ITEMS_PER_ROUTE; i++) {
+                RouteItem item = new RouteItem();
+                item.setRouteHead(head);
+                item.setPlace(places.get((r + i) % places.size()));
+                entityManager.persist(item);
+            }
+
+            for (int i = 0; i < TAGS_PER_ROUTE; i++) {
+                RouteHashtags routeHashtag = new RouteHashtags();
+                routeHashtag.setRouteHead(head);
+                routeHashtag.setHashtag(hashtags.get((r + i) % hashtags.size()));
+                routeHashtag.setOrderNumber(i);
+                entityManager.persist(routeHashtag);
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void loadsFeedPageGraphInConstantNumberOfStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<RouteHead> heads = routeHeadRepository.findPublicFeed(viewerId, PageRequest.of(0, ROUTE_COUNT));
+        routeGraphLoader.initialize(heads);
+
+        // 변환 과정에서 접근하는 모든 연관 데이터를 순회해도 추가 쿼리가 발생하지 않아야 함
+        int itemCount = 0;
+        int tagCount = 0;
+        for (RouteHead head : heads) {
+            assertThat(head.getUser().getName()).isNotBlank();
+            for (RouteItem item : head.getData()) {
+                assertThat(item.getPlace().getTitle()).startsWith("place-");
+                itemCount++;
+            }
+            for (RouteHashtags routeHashtag : head.getRouteHashtags()) {
+                assertThat(routeHashtag.getHashtag().getTagName()).startsWith("tag-");
+                tagCount++;
+            }
+        }
+
+        assertThat(heads).hasSize(ROUTE_COUNT);
+        assertThat(itemCount).isEqualTo(ROUTE_COUNT * ITEMS_PER_ROUTE);
+        assertThat(tagCount).isEqualTo(ROUTE_COUNT * TAGS_PER_ROUTE);
+        // 목록 조회(작성자 포함) 1회 + 경로 아이템/장소 1회 + 해시태그 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void loadsFeedSummaryPageFromProjectionsOnly() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<RouteSummaryDto> rows = routeHeadRepository.findPublicFeedSummaries(viewerId,
+                PageRequest.of(0, ROUTE_COUNT));
+        List<Long> ids = rows.stream().map(RouteSummaryDto::getId).toList();
+        Map<Long, List<String>> tagNames = routeGraphLoader.loadTagNames(ids);
+        Map<Long, List<RouteStopSummaryDto>> stops = routeGraphLoader.loadStopSummaries(ids);
+
+        assertThat(rows).hasSize(ROUTE_COUNT);
+        for (RouteSummaryDto row : rows) {
+            assertThat(row.getUserId().getName()).startsWith("author");
+            assertThat(tagNames.get(row.getId())).hasSize(TAGS_PER_ROUTE);
+            assertThat(stops.get(row.getId())).hasSize(ITEMS_PER_ROUTE);
+        }
+        // 요약 목록(작성자 ID, 이름 포함) 1회 + 경로 아이템 요약 1회 + 해시태그 이름 1회, 엔티티는 만들지 않음
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName(email.substring(0, email.indexOf('@')));
+        user.setPassword("password");
+        return user;
+    }
+}
@@ -0,0 +1,240 @@
+package com.gayou.route.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+class RouteOptimizerTest {
+
+    private static final int MAX_BRUTE_FORCE_SIZE = 8;
+    private static final int INSTANCES_PER_SIZE = 200;
+    // RouteOptimizer의 Or-opt 최대 구간 길이
+    private static final int MAX_SEGMENT_LENGTH = 3;
+
+    private final RouteOptimizer routeOptimizer = new RouteOptimizer();
+
+    @Test
+    void matchesBruteForceForSmallRoutes() {
+        Random random = new Random(42);
+        for (int n = 1; n <= MAX_BRUTE_FORCE_SIZE; n++) {
+            for (int instance = 0; instance < INSTANCES_PER_SIZE; instance++) {
+                double[][] coordinates = randomCoordinates(random, n);
+                for (int mode = 0; mode < 4; mode++) {
+                    boolean fixStart = (mode & 1) != 0;
+                    boolean fixEnd = (mode & 2) != 0;
+                    int[] order = routeOptimizer.optimize(coordinates[0], coordinates[1], fixStart, fixEnd);
+
+                    assertValidOrder(order, n, fixStart, fixEnd);
+                    double optimal = bruteForceLength(coordinates[0], coordinates[1], fixStart, fixEnd);
+                    assertThat(RouteOptimizer.pathLength(coordinates[0], coordinates[1], order))
+                            .as("n=%d instance=%d fixStart=%s fixEnd=%s", n, instance, fixStart, fixEnd)
+                            .isCloseTo(optimal, Offset.offset(1e-6));
+                }
+            }
+        }
+    }
+
+    @Test
+    void heuristicResultCannotBeImprovedBySingleMove() {
+        // 2-opt/Or-opt의 증감 계산과 구간 이동이 맞다면, 결과에 어떤 뒤집기나 구간 이동을 한 번 더 해도 줄지 않아야 함
+        Random random = new Random(11);
+        for (int n = 3; n <= 16; n++) {
+            for (int instance = 0; instance < 50; instance++) {
+                double[][] coordinates = randomCoordinates(random, n);
+                for (int mode = 0; mode < 4; mode++) {
+                    boolean fixStart = (mode & 1) != 0;
+                    boolean fixEnd = (mode & 2) != 0;
+                    int[] order = routeOptimizer.optimizeHeuristically(coordinates[0], coordinates[1], fixStart,
+                            fixEnd);
+
+                    assertValidOrder(order, n, fixStart, fixEnd);
+                    assertLocallyOptimal(coordinates, order, fixStart, fixEnd,
+                            "n=" + n + " instance=" + instance + " fixStart=" + fixStart + " fixEnd=" + fixEnd);
+                }
+            }
+        }
+    }
+
+    @Test
+    void keepsFixedEndpointsAndReturnsPermutationForLargeRoutes() {
+        Random random = new Random(7);
+        int n = 40;
+        double[][] coordinates = randomCoordinates(random, n);
+        int[] identity = new int[n];
+        for (int i = 0; i < n; i++) {
+            identity[i] = i;
+        }
+        double inputLength = RouteOptimizer.pathLength(coordinates[0], coordinates[1], identity);
+
+        for (int mode = 0; mode < 4; mode++) {
+            boolean fixStart = (mode & 1) != 0;
+            boolean fixEnd = (mode & 2) != 0;
+            int[] order = routeOptimizer.optimize(coordinates[0], coordinates[1], fixStart, fixEnd);
+
+            assertValidOrder(order, n, fixStart, fixEnd);
+            assertThat(RouteOptimizer.pathLength(coordinates[0], coordinates[1], order)).isLessThan(inputLength);
+        }
+    }
+
+    @Test
+    void ordersCollinearPlacesAlongTheLine() {
+        // 한 경선 위의 장소를 섞어서 넣어도 위도 순서(또는 그 역순)로 방문해야 함
+        double[] latitudes = { 37.50, 37.56, 37.52, 37.58, 37.51, 37.55, 37.53, 37.57, 37.54 };
+        double[] longitudes = new double[latitudes.length];
+        Arrays.fill(longitudes, 127.0);
+
+        int[] order = routeOptimizer.optimize(latitudes, longitudes, false, false);
+
+        assertValidOrder(order, latitudes.length, false, false);
+        double[] visited = Arrays.stream(order).mapToDouble(i -> latitudes[i]).toArray();
+        double[] sorted = visited.clone();
+        Arrays.sort(sorted);
+        if (visited[0] > visited[visited.length - 1]) {
+            reverse(sorted);
+        }
+        assertThat(visited).containsExactly(sorted);
+    }
+
+    @Test
+    void fixedStartAndEndAreKeptForCollinearPlaces() {
+        // 출발지와 도착지가 가운데에 있어도 고정된 위치를 벗어나지 않아야 함
+        double[] latitudes = { 37.54, 37.50, 37.58, 37.52, 37.56, 37.55 };
+        double[] longitudes = new double[latitudes.length];
+        Arrays.fill(longitudes, 127.0);
+
+        int[] order = routeOptimizer.optimize(latitudes, longitudes, true, true);
+
+        assertValidOrder(order, latitudes.length, true, true);
+        assertThat(RouteOptimizer.pathLength(latitudes, longitudes, order))
+                .isCloseTo(bruteForceLength(latitudes, longitudes, true, true), Offset.offset(1e-6));
+    }
+
+    private static void assertValidOrder(int[] order, int n, boolean fixStart, boolean fixEnd) {
+        assertThat(order).hasSize(n);
+        int[] sorted = order.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < n; i++) {
+            assertThat(sorted[i]).isEqualTo(i);
+        }
+        if (fixStart && n > 0) {
+            assertThat(order[0]).isZero();
+        }
+        if (fixEnd && n > 1) {
+            assertThat(order[n - 1]).isEqualTo(n - 1);
+        }
+    }
+
+    private static void assertLocallyOptimal(double[][] coordinates, int[] order, boolean fixStart, boolean fixEnd,
+            String description) {
+        int n = order.length;
+        double length = RouteOptimizer.pathLength(coordinates[0], coordinates[1], order);
+
+        // 구간 [i, j] 뒤집기
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int[] candidate = order.clone();
+                for (int left = i, right = j; left < right; left++, right--) {
+                    int tmp = candidate[left];
+                    candidate[left] = candidate[right];
+                    candidate[right] = tmp;
+                }
+                assertNotShorter(coordinates, candidate, length, fixStart, fixEnd, description);
+            }
+        }
+
+        // 구간 [i, i + length)를 떼어 남은 순서의 position 위치에 (뒤집거나 그대로) 삽입
+        for (int segment = 1; segment <= MAX_SEGMENT_LENGTH && segment < n - 1; segment++) {
+            for (int i = 0; i + segment <= n; i++) {
+                int[] rest = new int[n - segment];
+                System.arraycopy(order, 0, rest, 0, i);
+                System.arraycopy(order, i + segment, rest, i, n - i - segment);
+                for (int position = 0; position <= rest.length; position++) {
+                    for (boolean reversed : new boolean[] { false, true }) {
+                        int[] candidate = new int[n];
+                        System.arraycopy(rest, 0, candidate, 0, position);
+                        for (int k = 0; k < segment; k++) {
+                            candidate[position + k] = order[reversed ? i + segment - 1 - k : i + k];
+                        }
+                        System.arraycopy(rest, position, candidate, position + segment, rest.length - position);
+                        assertNotShorter(coordinates, candidate, length, fixStart, fixEnd, description);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void assertNotShorter(double[][] coordinates, int[] candidate, double length, boolean fixStart,
+            boolean fixEnd, String description) {
+        int n = candidate.length;
+        if ((fixStart && candidate[0] != 0) || (fixEnd && candidate[n - 1] != n - 1)) {
+            return;
+        }
+        assertThat(RouteOptimizer.pathLength(coordinates[0], coordinates[1], candidate))
+                .as("%s candidate=%s", description, Arrays.toString(candidate))
+                .isGreaterThan(length - 1e-3);
+    }
+
+    // 서울 부근의 무작위 좌표 {위도, 경도}
+    private static double[][] randomCoordinates(Random random, int n) {
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            latitudes[i] = 37.4 + random.nextDouble() * 0.3;
+            longitudes[i] = 126.8 + random.nextDouble() * 0.4;
+        }
+        return new double[][] { latitudes, longitudes };
+    }
+
+    // 고정 조건을 지키는 모든 순서 중 가장 짧은 총 거리
+    private static double bruteForceLength(double[] latitudes, double[] longitudes, boolean fixStart,
+            boolean fixEnd) {
+        int n = latitudes.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        double best = Double.MAX_VALUE;
+        do {
+            if ((fixStart && order[0] != 0) || (fixEnd && n > 1 && order[n - 1] != n - 1)) {
+                continue;
+            }
+            best = Math.min(best, RouteOptimizer.pathLength(latitudes, longitudes, order));
+        } while (nextPermutation(order));
+        return best;
+    }
+
+    private static boolean nextPermutation(int[] values) {
+        int i = values.length - 2;
+        while (i >= 0 && values[i] >= values[i + 1]) {
+            i--;
+        }
+        if (i < 0) {
+            return false;
+        }
+        int j = values.length - 1;
+        while (values[j] <= values[i]) {
+            j--;
+        }
+        int tmp = values[i];
+        values[i] = values[j];
+        values[j] = tmp;
+        for (int left = i + 1, right = values.length - 1; left < right; left++, right--) {
+            tmp = values[left];
+            values[left] = values[right];
+            values[right] = tmp;
+        }
+        return true;
+    }
+
+    private static void reverse(double[] values) {
+        for (int left = 0, right = values.length - 1; left < right; left++, right--) {
+            double tmp = values[left];
+            values[left] = values[right];
+            values[right] = tmp;
+        }
+    }
+}